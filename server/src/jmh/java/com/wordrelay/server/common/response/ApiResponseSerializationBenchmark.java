@@ -0,0 +1,59 @@
+package com.wordrelay.server.common.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.wordrelay.server.common.exception.ErrorCode;
+import com.wordrelay.server.dto.WordResultResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * /game/word로 나가는 ApiResponse<WordResultResponse>의 JSON 직렬화 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+  private ObjectMapper objectMapper;
+  private ObjectWriter writer;
+  private ApiResponse<WordResultResponse> success;
+  private ApiResponse<WordResultResponse> error;
+
+  @Setup
+  public void setUp() {
+    objectMapper = new ObjectMapper();
+    writer = objectMapper.writerFor(ApiResponse.class);
+    success = ApiResponse.success(
+        new WordResultResponse(true, "기차표", SuccessCode.WORD_VALID.getMessage()));
+    error = ApiResponse.error(ErrorCode.NOT_FOLLOWING_RULES);
+  }
+
+  @Benchmark
+  public byte[] successResponse() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(success);
+  }
+
+  @Benchmark
+  public byte[] errorResponse() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(error);
+  }
+
+  @Benchmark
+  public byte[] successResponsePreparedWriter() throws JsonProcessingException {
+    return writer.writeValueAsBytes(success);
+  }
+}
@@ -0,0 +1,124 @@
+package com.wordrelay.server.config;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.commons.logging.LogFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.OrderedMessageChannelDecorator;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * clientInboundChannel 부하 테스트. 핸들러는 Redis/MySQL 왕복을 흉내 내어 ioMicros만큼 블로킹한다.
+ * platform은 Spring 기본 실행기(코어 수 x 2 고정 풀), virtual은 spring.threads.virtual.enabled=true일 때의 설정이다.
+ * virtual은 운영과 같이 setPreserveReceiveOrder(true)로 세션마다 OrderedMessageChannelDecorator를 거치므로
+ * 한 세션의 메시지는 하나씩만 처리되고, 동시성은 세션 수(SESSIONS)로 제한된다.
+ * ./gradlew jmh -PjmhArgs='InboundChannelThroughputBenchmark'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InboundChannelThroughputBenchmark {
+
+  private static final int MESSAGES = 2_000;
+  private static final int SESSIONS = 200;
+
+  @Param({"platform", "virtual"})
+  public String executor;
+
+  @Param({"500", "2000"})
+  public long ioMicros;
+
+  private ExecutorSubscribableChannel channel;
+  private ThreadPoolTaskExecutor platformExecutor;
+  private Message<?>[] messages;
+  // 세션별로 보낼 채널. virtual이면 StompSubProtocolHandler처럼 세션마다 만든 순서 보장 데코레이터다.
+  private MessageChannel[] senders;
+  private volatile CountDownLatch latch;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    if ("virtual".equals(executor)) {
+      SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("ws-inbound-");
+      virtualExecutor.setVirtualThreads(true);
+      channel = new ExecutorSubscribableChannel(virtualExecutor);
+      // AbstractMessageBrokerConfiguration이 preserveReceiveOrder일 때 clientInboundChannel에 하는 설정
+      OrderedMessageChannelDecorator.configureInterceptor(channel, true);
+    } else {
+      // AbstractMessageBrokerConfiguration의 기본 inbound 실행기와 같은 설정
+      platformExecutor = new ThreadPoolTaskExecutor();
+      platformExecutor.setCorePoolSize(Runtime.getRuntime().availableProcessors() * 2);
+      platformExecutor.setAllowCoreThreadTimeOut(true);
+      platformExecutor.setThreadNamePrefix("clientInboundChannel-");
+      platformExecutor.initialize();
+      channel = new ExecutorSubscribableChannel(platformExecutor);
+    }
+
+    long ioNanos = TimeUnit.MICROSECONDS.toNanos(ioMicros);
+    channel.subscribe(message -> {
+      LockSupport.parkNanos(ioNanos);
+      latch.countDown();
+    });
+
+    senders = new MessageChannel[SESSIONS];
+    for (int i = 0; i < SESSIONS; i++) {
+      senders[i] = "virtual".equals(executor)
+          ? new OrderedMessageChannelDecorator(channel, LogFactory.getLog(getClass()))
+          : channel;
+    }
+    messages = new Message<?>[MESSAGES];
+  }
+
+  // 순서 보장 데코레이터는 메시지 헤더에 다음 작업을 적어 두므로, StompDecoder처럼 헤더를 바꿀 수 있게 두고
+  // 매번 새로 만든다.
+  @Setup(Level.Invocation)
+  public void prepareMessages() {
+    for (int i = 0; i < MESSAGES; i++) {
+      SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+      accessor.setSessionId("session-" + (i % SESSIONS));
+      accessor.setDestination("/app/send");
+      accessor.setLeaveMutable(true);
+      messages[i] = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (platformExecutor != null) {
+      platformExecutor.shutdown();
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MESSAGES)
+  public void handleMessages() throws InterruptedException {
+    latch = new CountDownLatch(MESSAGES);
+    for (int i = 0; i < MESSAGES; i++) {
+      senders[i % SESSIONS].send(messages[i]);
+    }
+    latch.await();
+  }
+}
@@ -0,0 +1,77 @@
+package com.wordrelay.server.dictionary;
+
+import com.wordrelay.server.model.Word;
+import com.wordrelay.server.support.SyntheticWordMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DictionaryIndexBenchmark {
+
+  @Param({"400000"})
+  private int wordCount;
+
+  private DictionaryIndex dictionaryIndex;
+  private ContinuationIndex continuationIndex;
+  private String[] hits;
+  private String[] misses;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    SyntheticWordMapper wordMapper = new SyntheticWordMapper(wordCount, 2000, 42L);
+    dictionaryIndex = new DictionaryIndex(wordMapper, true);
+    dictionaryIndex.load();
+    continuationIndex = new ContinuationIndex(dictionaryIndex);
+    continuationIndex.build();
+
+    List<String> words = wordMapper.getWords();
+    hits = new String[1024];
+    misses = new String[1024];
+    for (int i = 0; i < hits.length; i++) {
+      hits[i] = words.get((i * 7919) % words.size());
+      misses[i] = hits[i] + hits[i].charAt(0) + hits[i].charAt(0) + hits[i].charAt(0);
+    }
+  }
+
+  private int next() {
+    cursor = (cursor + 1) & 1023;
+    return cursor;
+  }
+
+  @Benchmark
+  public boolean containsHit() {
+    return dictionaryIndex.contains(hits[next()]);
+  }
+
+  @Benchmark
+  public boolean containsMiss() {
+    return dictionaryIndex.contains(misses[next()]);
+  }
+
+  @Benchmark
+  public Word findHit() {
+    return dictionaryIndex.find(hits[next()]);
+  }
+
+  @Benchmark
+  public boolean winningWord() {
+    return continuationIndex.isWinningWord(hits[next()]);
+  }
+}
@@ -0,0 +1,64 @@
+package com.wordrelay.server.eventlog;
+
+import com.wordrelay.server.eventlog.TurnEventLog.FsyncPolicy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 요청 스레드가 턴 하나를 기록하는 데 드는 시간. writer 스레드는 실제 파일에 쓴다.
+ * 링 버퍼가 가득 차 버려진 이벤트도 한 번의 호출로 센다.
+ * ./gradlew jmh -PjmhArgs='TurnEventLogBenchmark'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class TurnEventLogBenchmark {
+
+  private Path directory;
+  private TurnEventLog turnEventLog;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("turn-log-bench");
+    turnEventLog = new TurnEventLog(true, directory.toString(), 64L << 20, 65536,
+        FsyncPolicy.INTERVAL, 1000);
+    turnEventLog.start();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    turnEventLog.stop();
+    System.out.printf("%nappended=%d, dropped=%d, written=%d bytes%n",
+        turnEventLog.getAppendedCount(), turnEventLog.getDroppedCount(),
+        turnEventLog.getWrittenBytes());
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public boolean append() {
+    return turnEventLog.append(TurnEvent.accepted("lobby", "browser-1234", "기차", "기차", 10));
+  }
+}
@@ -0,0 +1,140 @@
+package com.wordrelay.server.service;
+
+import com.wordrelay.server.common.response.ApiResponse;
+import com.wordrelay.server.dictionary.ContinuationIndex;
+import com.wordrelay.server.dictionary.DictionaryIndex;
+import com.wordrelay.server.dictionary.StartWordSampler;
+import com.wordrelay.server.dto.WordMessage;
+import com.wordrelay.server.dto.WordResultResponse;
+import com.wordrelay.server.eventlog.TurnEventLog;
+import com.wordrelay.server.metrics.GameMetrics;
+import com.wordrelay.server.model.Room;
+import com.wordrelay.server.support.InMemoryGameStateRepository;
+import com.wordrelay.server.support.SyntheticWordMapper;
+import com.wordrelay.server.util.HangulUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * GameService.sendWord 전체 검증 파이프라인. Redis와 MySQL은 메모리 구현으로 대체한다.
+ * accepted는 매 호출 전에 현재 단어를 맞춰 두고 아직 쓰지 않은 단어를 제출한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameServiceBenchmark {
+
+  private static final int PAIR_COUNT = 1 << 14;
+
+  private GameService gameService;
+  private InMemoryGameStateRepository repository;
+  private UsedWordRegistry usedWordRegistry;
+  private Room lobby;
+
+  private String[] currentWords;
+  private WordMessage[] acceptedMessages;
+  private WordMessage[] rejectedMessages;
+  private WordMessage[] invalidMessages;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    SyntheticWordMapper wordMapper = new SyntheticWordMapper(200_000, 1500, 42L);
+    DictionaryIndex dictionaryIndex = new DictionaryIndex(wordMapper, true);
+    dictionaryIndex.load();
+    ContinuationIndex continuationIndex = new ContinuationIndex(dictionaryIndex);
+    continuationIndex.build();
+    StartWordSampler startWordSampler = new StartWordSampler(dictionaryIndex, continuationIndex,
+        true, 50);
+    startWordSampler.build();
+
+    repository = new InMemoryGameStateRepository();
+    usedWordRegistry = new UsedWordRegistry(repository, PAIR_COUNT, 0.01);
+    RoomService roomService = new RoomService(repository, usedWordRegistry, Duration.ofHours(1));
+    ScoreBuffer scoreBuffer = new ScoreBuffer(null, Integer.MAX_VALUE);
+    UserService userService = new UserService(null, scoreBuffer,
+        new LeaderboardService(null, null, null, 10), true);
+    gameService = new GameService(repository, new HangulUtil(wordMapper, dictionaryIndex),
+        roomService, usedWordRegistry, continuationIndex, userService,
+        new GameMetrics(new SimpleMeterRegistry()), startWordSampler, TurnEventLog.disabled());
+    lobby = roomService.getDefaultRoom();
+
+    List<String> current = new ArrayList<>();
+    List<String> next = new ArrayList<>();
+    Set<String> chosen = new HashSet<>();
+    for (String word : wordMapper.getWords()) {
+      if (current.size() == PAIR_COUNT) {
+        break;
+      }
+      for (String candidate : continuationIndex.continuations(word.charAt(word.length() - 1))) {
+        if (!continuationIndex.isWinningWord(candidate) && chosen.add(candidate)) {
+          current.add(word);
+          next.add(candidate);
+          break;
+        }
+      }
+    }
+
+    int size = Integer.highestOneBit(current.size());
+    currentWords = new String[size];
+    acceptedMessages = new WordMessage[size];
+    rejectedMessages = new WordMessage[size];
+    invalidMessages = new WordMessage[size];
+    for (int i = 0; i < size; i++) {
+      currentWords[i] = current.get(i);
+      acceptedMessages[i] = message(next.get(i));
+      rejectedMessages[i] = message(current.get((i + 1) % size));
+      invalidMessages[i] = message(next.get(i) + "똠똠");
+    }
+  }
+
+  private int next() {
+    cursor = (cursor + 1) & (currentWords.length - 1);
+    if (cursor == 0) {
+      repository.clearUsedWords(lobby);
+      usedWordRegistry.resetRound(lobby);
+    }
+    repository.setCurrentWord(lobby, currentWords[cursor]);
+    return cursor;
+  }
+
+  @Benchmark
+  public ApiResponse<WordResultResponse> accepted() {
+    return gameService.sendWord(acceptedMessages[next()]);
+  }
+
+  @Benchmark
+  public ApiResponse<WordResultResponse> notFollowingRules() {
+    return gameService.sendWord(rejectedMessages[next()]);
+  }
+
+  @Benchmark
+  public ApiResponse<WordResultResponse> notInDictionary() {
+    return gameService.sendWord(invalidMessages[next()]);
+  }
+
+  private static WordMessage message(String word) {
+    WordMessage message = new WordMessage();
+    message.setWord(word);
+    message.setBrowserId("benchmark");
+    return message;
+  }
+}
@@ -0,0 +1,72 @@
+package com.wordrelay.server.support;
+
+import com.wordrelay.server.model.Room;
+import com.wordrelay.server.repository.GameStateRepository;
+import com.wordrelay.server.repository.TurnResult;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 벤치마크용 Redis 대체 저장소. commit_turn.lua와 같은 규칙으로 동작한다.
+ */
+public class InMemoryGameStateRepository implements GameStateRepository {
+
+  private final Map<String, String> currentWords = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> usedWords = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> scores = new ConcurrentHashMap<>();
+
+  @Override
+  public String getCurrentWord(Room room) {
+    return currentWords.get(room.getCurrentWordKey());
+  }
+
+  @Override
+  public TurnResult commitTurn(Room room, String expectedWord, String word, String nextWord,
+      String browserId, int score) {
+    synchronized (room) {
+      if (!Objects.equals(currentWords.get(room.getCurrentWordKey()), expectedWord)) {
+        return TurnResult.ALREADY_ANSWERED;
+      }
+      Set<String> used = usedSet(room);
+      if (!used.add(word)) {
+        return TurnResult.ALREADY_USED;
+      }
+      currentWords.put(room.getCurrentWordKey(), nextWord);
+      if (!word.equals(nextWord)) {
+        used.clear();
+      }
+    }
+    scores.computeIfAbsent(browserId, id -> new LongAdder()).add(score);
+    return TurnResult.ACCEPTED;
+  }
+
+  @Override
+  public boolean isUsedWord(Room room, String word) {
+    return usedSet(room).contains(word);
+  }
+
+  @Override
+  public Set<String> getUsedWords(Room room) {
+    return Set.copyOf(usedSet(room));
+  }
+
+  @Override
+  public void initRoom(Room room, String startWord) {
+    currentWords.putIfAbsent(room.getCurrentWordKey(), startWord);
+  }
+
+  public void setCurrentWord(Room room, String word) {
+    currentWords.put(room.getCurrentWordKey(), word);
+  }
+
+  public void clearUsedWords(Room room) {
+    usedSet(room).clear();
+  }
+
+  private Set<String> usedSet(Room room) {
+    return usedWords.computeIfAbsent(room.getUsedWordsKey(), key -> ConcurrentHashMap.newKeySet());
+  }
+}
@@ -0,0 +1,98 @@
+package com.wordrelay.server.support;
+
+import com.wordrelay.server.mapper.WordMapper;
+import com.wordrelay.server.model.Word;
+import com.wordrelay.server.util.HangulUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 벤치마크용 MySQL 대체 매퍼. 고정 시드로 2~4음절 단어를 만들어 초성별로 나눠 담는다.
+ */
+public class SyntheticWordMapper implements WordMapper {
+
+  private final List<List<Word>> tables = new ArrayList<>();
+  private final List<String> words = new ArrayList<>();
+
+  public SyntheticWordMapper(int wordCount, int syllableCount, long seed) {
+    for (int i = 0; i < HangulUtil.CHOSEONG_COUNT; i++) {
+      tables.add(new ArrayList<>());
+    }
+
+    Random random = new Random(seed);
+    char[] syllables = new char[syllableCount];
+    for (int i = 0; i < syllableCount; i++) {
+      syllables[i] = (char) (HangulUtil.SYLLABLE_BASE + random.nextInt(HangulUtil.SYLLABLE_COUNT));
+    }
+
+    Set<String> seen = new HashSet<>();
+    StringBuilder builder = new StringBuilder();
+    while (words.size() < wordCount) {
+      builder.setLength(0);
+      int length = 2 + random.nextInt(3);
+      for (int i = 0; i < length; i++) {
+        builder.append(syllables[random.nextInt(syllableCount)]);
+      }
+      String text = builder.toString();
+      if (!seen.add(text)) {
+        continue;
+      }
+
+      Word word = new Word();
+      word.setId(words.size() + 1);
+      word.setWord(text);
+      word.setWinningWord(false);
+      tables.get(HangulUtil.choseongIndex(text.charAt(0))).add(word);
+      words.add(text);
+    }
+  }
+
+  public List<String> getWords() {
+    return words;
+  }
+
+  @Override
+  public Boolean selectWord(String word) {
+    return getWord(word) != null;
+  }
+
+  @Override
+  public Word getWord(String word) {
+    int choseong = HangulUtil.choseongIndex(word.charAt(0));
+    if (choseong < 0) {
+      return null;
+    }
+    for (Word candidate : getAllWords(choseong)) {
+      if (candidate.getWord().equals(word)) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public List<Word> getWords(Collection<String> words) {
+    List<Word> found = new ArrayList<>();
+    for (String word : new HashSet<>(words)) {
+      Word candidate = getWord(word);
+      if (candidate != null) {
+        found.add(candidate);
+      }
+    }
+    return found;
+  }
+
+  @Override
+  public List<Word> getAllWords(int choseong) {
+    return tables.get(choseong);
+  }
+
+  @Override
+  public long selectRevision() {
+    return ((long) words.size() << 32) | words.size();
+  }
+}
@@ -0,0 +1,83 @@
+package com.wordrelay.server.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 사전 테이블 라우팅 비용 비교. legacyRouting은 정적 테이블 도입 전 HangulUtil.getWord의 방식이다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HangulUtilBenchmark {
+
+  private static final Map<Character, String> LEGACY_CHOSEONG_TO_TABLE = new HashMap<>();
+
+  static {
+    char[] choseong = {'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+    for (int i = 0; i < choseong.length; i++) {
+      LEGACY_CHOSEONG_TO_TABLE.put(choseong[i], HangulUtil.TABLE_NAMES.get(i));
+    }
+  }
+
+  private final String[] words = {"기차", "사과", "학교", "나무", "역사", "하늘", "바다", "짜장면"};
+  private int cursor;
+
+  private String nextWord() {
+    cursor = (cursor + 1) & 7;
+    return words[cursor];
+  }
+
+  @Benchmark
+  public String legacyRouting() {
+    char firstChar = nextWord().charAt(0);
+    int choseongIndex = (firstChar - 0xAC00) / (21 * 28);
+    char[] choseongList = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    char choseong = choseongList[choseongIndex];
+    String tableName = LEGACY_CHOSEONG_TO_TABLE.get(choseong);
+    if (!HangulUtil.TABLE_NAMES.contains(tableName)) {
+      throw new IllegalArgumentException();
+    }
+    return LEGACY_CHOSEONG_TO_TABLE.get(choseong);
+  }
+
+  @Benchmark
+  public String tableRouting() {
+    return HangulUtil.tableName(nextWord().charAt(0));
+  }
+
+  @Benchmark
+  public boolean validateWord() {
+    return HangulUtil.isHangulWord(nextWord());
+  }
+
+  @Benchmark
+  public boolean dueumFollow() {
+    String word = nextWord();
+    return DueumRule.canFollow(word.charAt(word.length() - 1), word.charAt(0));
+  }
+
+  @Benchmark
+  public char decomposeAndCompose() {
+    char syllable = nextWord().charAt(0);
+    return HangulUtil.compose(HangulUtil.choseongIndex(syllable),
+        HangulUtil.jungseongIndex(syllable), HangulUtil.jongseongIndex(syllable));
+  }
+}
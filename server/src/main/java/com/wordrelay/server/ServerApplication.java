@@ -3,9 +3,11 @@ package com.wordrelay.server;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @MapperScan("com.wordrelay.server.mapper")
+@EnableScheduling
 public class ServerApplication {
 
   public static void main(String[] args) {
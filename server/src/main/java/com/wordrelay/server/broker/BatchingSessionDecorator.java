@@ -0,0 +1,206 @@
+package com.wordrelay.server.broker;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * 세션별 송신 큐. batchWindow 동안 모인 STOMP 프레임을 하나의 WebSocket 메시지로 이어 붙여 보낸다.
+ * 상태성 목적지(기본값은 접속 시 currentWord)의 프레임은 같은 구독의 이전 프레임을 대체해 최신 값만 남긴다.
+ * 턴 결과처럼 프레임 하나하나가 이벤트인 목적지는 합치지 않는다. 목적지는 Ant 경로 패턴으로 지정한다.
+ * 큐 크기나 송신 시간이 한도를 넘으면 느린 클라이언트로 보고 세션을 끊는다.
+ */
+@Slf4j
+public class BatchingSessionDecorator extends WebSocketSessionDecorator {
+
+  private static final String MESSAGE_COMMAND = "MESSAGE\n";
+  private static final String DESTINATION_HEADER = "destination:";
+  private static final String SUBSCRIPTION_HEADER = "subscription:";
+  private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+  private final ScheduledExecutorService scheduler;
+  private final long batchWindowMillis;
+  private final long sendTimeLimitMillis;
+  private final int bufferSizeLimit;
+  private final List<String> coalescedDestinations;
+
+  // 상태성 프레임은 구독+목적지 문자열, 나머지는 순번(Long)을 키로 쓴다.
+  private final Map<Object, String> queued = new LinkedHashMap<>();
+  private final ReentrantLock sendLock = new ReentrantLock();
+  private int queuedBytes;
+  private long sequence;
+  private boolean flushScheduled;
+  private volatile long sendStartedAt;
+
+  public BatchingSessionDecorator(WebSocketSession session, ScheduledExecutorService scheduler,
+      long batchWindowMillis, long sendTimeLimitMillis, int bufferSizeLimit,
+      List<String> coalescedDestinations) {
+    super(session);
+    this.scheduler = scheduler;
+    this.batchWindowMillis = batchWindowMillis;
+    this.sendTimeLimitMillis = sendTimeLimitMillis;
+    this.bufferSizeLimit = bufferSizeLimit;
+    this.coalescedDestinations = coalescedDestinations;
+  }
+
+  @Override
+  public void sendMessage(WebSocketMessage<?> message) throws IOException {
+    checkSendTime();
+
+    if (!(message instanceof TextMessage textMessage)) {
+      // 바이너리/핑 등은 순서를 지키기 위해 쌓인 프레임을 먼저 보낸 뒤 바로 보낸다.
+      sendLock.lock();
+      try {
+        flushLocked();
+        send(message);
+      } finally {
+        sendLock.unlock();
+      }
+      return;
+    }
+
+    String frame = textMessage.getPayload();
+    int bufferedBytes;
+    boolean schedule = false;
+    synchronized (queued) {
+      String key = coalesceKey(frame);
+      String replaced = key == null ? null : queued.remove(key);
+      if (replaced != null) {
+        queuedBytes -= replaced.length();
+      }
+      queued.put(key == null ? Long.valueOf(sequence++) : key, frame);
+      queuedBytes += frame.length();
+
+      bufferedBytes = queuedBytes;
+      if (bufferedBytes <= bufferSizeLimit && !flushScheduled) {
+        flushScheduled = true;
+        schedule = true;
+      }
+    }
+
+    if (bufferedBytes > bufferSizeLimit) {
+      throw new SessionLimitExceededException("Buffer size " + bufferedBytes
+          + " bytes for session '" + getId() + "' exceeds the allowed limit " + bufferSizeLimit,
+          CloseStatus.SESSION_NOT_RELIABLE);
+    }
+    if (schedule) {
+      scheduler.schedule(this::flushQuietly, batchWindowMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Override
+  public void close(CloseStatus status) throws IOException {
+    flushQuietly();
+    super.close(status);
+  }
+
+  int queuedFrames() {
+    synchronized (queued) {
+      return queued.size();
+    }
+  }
+
+  void flush() throws IOException {
+    sendLock.lock();
+    try {
+      flushLocked();
+    } finally {
+      sendLock.unlock();
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (IOException | RuntimeException e) {
+      log.debug("Failed to flush outbound batch for session {}", getId(), e);
+    }
+  }
+
+  private void flushLocked() throws IOException {
+    String batch;
+    synchronized (queued) {
+      flushScheduled = false;
+      if (queued.isEmpty()) {
+        return;
+      }
+      StringBuilder builder = new StringBuilder(queuedBytes);
+      for (String frame : queued.values()) {
+        builder.append(frame);
+      }
+      batch = builder.toString();
+      queued.clear();
+      queuedBytes = 0;
+    }
+    if (isOpen()) {
+      send(new TextMessage(batch));
+    }
+  }
+
+  private void send(WebSocketMessage<?> message) throws IOException {
+    sendStartedAt = System.currentTimeMillis();
+    try {
+      getDelegate().sendMessage(message);
+    } finally {
+      sendStartedAt = 0;
+    }
+  }
+
+  private void checkSendTime() throws SessionLimitExceededException {
+    long startedAt = sendStartedAt;
+    if (startedAt != 0 && System.currentTimeMillis() - startedAt > sendTimeLimitMillis) {
+      throw new SessionLimitExceededException("Send time " + (System.currentTimeMillis() - startedAt)
+          + " (ms) for session '" + getId() + "' exceeded the allowed limit " + sendTimeLimitMillis,
+          CloseStatus.SESSION_NOT_RELIABLE);
+    }
+  }
+
+  // 대체 가능한 MESSAGE 프레임이면 "구독|목적지"를, 아니면 null을 돌려준다.
+  private String coalesceKey(String frame) {
+    if (coalescedDestinations.isEmpty() || !frame.startsWith(MESSAGE_COMMAND)) {
+      return null;
+    }
+    int headerEnd = frame.indexOf("\n\n");
+    if (headerEnd < 0) {
+      return null;
+    }
+
+    String destination = null;
+    String subscription = null;
+    int lineStart = MESSAGE_COMMAND.length();
+    while (lineStart < headerEnd) {
+      int lineEnd = frame.indexOf('\n', lineStart);
+      if (lineEnd < 0 || lineEnd > headerEnd) {
+        lineEnd = headerEnd;
+      }
+      if (frame.startsWith(DESTINATION_HEADER, lineStart)) {
+        destination = frame.substring(lineStart + DESTINATION_HEADER.length(), lineEnd);
+      } else if (frame.startsWith(SUBSCRIPTION_HEADER, lineStart)) {
+        subscription = frame.substring(lineStart + SUBSCRIPTION_HEADER.length(), lineEnd);
+      }
+      lineStart = lineEnd + 1;
+    }
+
+    if (destination == null) {
+      return null;
+    }
+    for (String pattern : coalescedDestinations) {
+      if (PATH_MATCHER.match(pattern, destination)) {
+        return subscription + "|" + destination;
+      }
+    }
+    return null;
+  }
+}
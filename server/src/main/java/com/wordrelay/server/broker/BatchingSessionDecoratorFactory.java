@@ -0,0 +1,67 @@
+package com.wordrelay.server.broker;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+/**
+ * 모든 WebSocket 세션을 {@link BatchingSessionDecorator}로 감싼다. batch-window가 0이면 감싸지 않는다.
+ */
+@Getter
+@Component
+public class BatchingSessionDecoratorFactory implements WebSocketHandlerDecoratorFactory {
+
+  private final long batchWindowMillis;
+  private final int sendTimeLimit;
+  private final int sendBufferSizeLimit;
+  private final List<String> coalescedDestinations;
+  private final ScheduledExecutorService scheduler;
+
+  public BatchingSessionDecoratorFactory(
+      @Value("${game.websocket.batch-window:20}") long batchWindowMillis,
+      @Value("${game.websocket.send-time-limit:10000}") int sendTimeLimit,
+      @Value("${game.websocket.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+      @Value("${game.websocket.coalesce-destinations:/user/queue/currentWord}")
+      List<String> coalescedDestinations) {
+    this.batchWindowMillis = batchWindowMillis;
+    this.sendTimeLimit = sendTimeLimit;
+    this.sendBufferSizeLimit = sendBufferSizeLimit;
+    this.coalescedDestinations = List.copyOf(coalescedDestinations);
+
+    AtomicInteger count = new AtomicInteger();
+    this.scheduler = Executors.newScheduledThreadPool(
+        Runtime.getRuntime().availableProcessors(), runnable -> {
+          Thread thread = new Thread(runnable, "ws-batch-" + count.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  @Override
+  public WebSocketHandler decorate(WebSocketHandler handler) {
+    if (batchWindowMillis <= 0) {
+      return handler;
+    }
+    return new WebSocketHandlerDecorator(handler) {
+      @Override
+      public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        super.afterConnectionEstablished(new BatchingSessionDecorator(session, scheduler,
+            batchWindowMillis, sendTimeLimit, sendBufferSizeLimit, coalescedDestinations));
+      }
+    };
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdown();
+  }
+}
@@ -0,0 +1,51 @@
+package com.wordrelay.server.broker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 노드 사이에 중계되는 방송 메시지. payload는 이미 직렬화된 JSON 바이트를 그대로 싣는다.
+ */
+@Getter
+@AllArgsConstructor
+public class BroadcastFrame {
+
+  private final String nodeId;
+  private final String destination;
+  private final String contentType;
+  private final byte[] payload;
+
+  public byte[] encode() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 64);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeUTF(nodeId);
+      out.writeUTF(destination);
+      out.writeUTF(contentType == null ? "" : contentType);
+      out.writeInt(payload.length);
+      out.write(payload);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  public static BroadcastFrame decode(byte[] encoded) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+      String nodeId = in.readUTF();
+      String destination = in.readUTF();
+      String contentType = in.readUTF();
+      byte[] payload = new byte[in.readInt()];
+      in.readFully(payload);
+      return new BroadcastFrame(nodeId, destination, contentType.isEmpty() ? null : contentType,
+          payload);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.wordrelay.server.broker;
+
+import java.util.function.Consumer;
+
+/**
+ * /game 방송을 다른 서버 노드로 중계하는 통로.
+ */
+public interface BroadcastRelay {
+
+  void publish(BroadcastFrame frame);
+
+  void subscribe(Consumer<BroadcastFrame> listener);
+}
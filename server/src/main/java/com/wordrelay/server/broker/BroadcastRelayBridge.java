@@ -0,0 +1,110 @@
+package com.wordrelay.server.broker;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.MimeType;
+
+/**
+ * 브로커 채널로 들어가는 /game 방송을 가로채 다른 노드로 중계하고, 다른 노드의 방송을 로컬 브로커에 넣는다.
+ * 로컬 구독자에게는 그대로 바로 전달하고, 중계는 이미 직렬화된 payload를 노드당 한 번만 보낸다.
+ * 리더보드처럼 노드마다 스스로 계산해 방송하는 목적지는 중계하지 않는다. 중계하면 클라이언트가
+ * 노드 수만큼 서로 다른 변경분을 받는다.
+ */
+@Slf4j
+@Component
+public class BroadcastRelayBridge implements ChannelInterceptor {
+
+  static final String RELAYED_HEADER = "relayed";
+  private static final String BROADCAST_PREFIX = "/game";
+  private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+  private final BroadcastRelay relay;
+  private final MessageChannel brokerChannel;
+  private final List<String> localDestinations;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  public BroadcastRelayBridge(Optional<BroadcastRelay> relay,
+      @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+      @Value("${game.broker.local-destinations:/game/leaderboard}") List<String> localDestinations) {
+    this.relay = relay.orElse(null);
+    this.brokerChannel = brokerChannel;
+    this.localDestinations = List.copyOf(localDestinations);
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    if (relay != null) {
+      relay.subscribe(this::deliver);
+      log.info("Broadcast relay enabled: {} (node {})", relay.getClass().getSimpleName(), nodeId);
+    }
+  }
+
+  public boolean isEnabled() {
+    return relay != null;
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    MessageHeaders headers = message.getHeaders();
+    if (relay == null
+        || headers.containsKey(RELAYED_HEADER)
+        || SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+        || !(message.getPayload() instanceof byte[] payload)) {
+      return message;
+    }
+
+    String destination = SimpMessageHeaderAccessor.getDestination(headers);
+    if (destination == null || !destination.startsWith(BROADCAST_PREFIX)
+        || isLocal(destination)) {
+      return message;
+    }
+
+    Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+    try {
+      relay.publish(new BroadcastFrame(nodeId, destination,
+          contentType == null ? null : contentType.toString(), payload));
+    } catch (RuntimeException e) {
+      // 중계가 실패해도 이 노드의 구독자에게는 전달한다.
+      log.warn("Failed to relay broadcast to {}", destination, e);
+    }
+    return message;
+  }
+
+  private boolean isLocal(String destination) {
+    for (String pattern : localDestinations) {
+      if (PATH_MATCHER.match(pattern, destination)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  void deliver(BroadcastFrame frame) {
+    if (nodeId.equals(frame.getNodeId())) {
+      return;
+    }
+
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setDestination(frame.getDestination());
+    if (frame.getContentType() != null) {
+      accessor.setContentType(MimeType.valueOf(frame.getContentType()));
+    }
+    accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+    brokerChannel.send(MessageBuilder.createMessage(frame.getPayload(), accessor.getMessageHeaders()));
+  }
+}
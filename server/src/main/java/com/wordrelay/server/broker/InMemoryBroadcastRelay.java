@@ -0,0 +1,26 @@
+package com.wordrelay.server.broker;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 한 프로세스 안에서 여러 노드를 흉내 내는 중계기. 테스트에서 Redis 대신 쓴다.
+ */
+public class InMemoryBroadcastRelay implements BroadcastRelay {
+
+  private final List<Consumer<BroadcastFrame>> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(BroadcastFrame frame) {
+    BroadcastFrame copy = BroadcastFrame.decode(frame.encode());
+    for (Consumer<BroadcastFrame> listener : listeners) {
+      listener.accept(copy);
+    }
+  }
+
+  @Override
+  public void subscribe(Consumer<BroadcastFrame> listener) {
+    listeners.add(listener);
+  }
+}
@@ -0,0 +1,120 @@
+package com.wordrelay.server.broker;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis pub/sub 채널 하나로 모든 노드의 방송을 주고받는다. game.broker.mode=redis일 때만 등록된다.
+ * 발행은 브로커 채널 스레드를 막지 않도록 전용 스레드 하나가 순서대로 보내고,
+ * 수신한 방송도 스레드 하나로 차례로 넘겨 같은 목적지의 메시지 순서가 바뀌지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "game.broker.mode", havingValue = "redis")
+public class RedisBroadcastRelay implements BroadcastRelay {
+
+  private final RedisConnectionFactory connectionFactory;
+  private final byte[] channel;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final List<Consumer<BroadcastFrame>> listeners = new CopyOnWriteArrayList<>();
+  private final ExecutorService publishExecutor;
+  private final ExecutorService dispatchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "broadcast-dispatch");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final LongAdder dropped = new LongAdder();
+
+  public RedisBroadcastRelay(
+      @Qualifier("redisConnectionFactorySession") RedisConnectionFactory connectionFactory,
+      @Value("${game.broker.channel:game:broadcast}") String channel,
+      @Value("${game.broker.publish-queue-size:10000}") int publishQueueSize) {
+    this.connectionFactory = connectionFactory;
+    this.channel = channel.getBytes(StandardCharsets.UTF_8);
+    // 대기열이 가득 차면 Redis가 밀리고 있다는 뜻이므로 호출 스레드를 막는 대신 버린다.
+    this.publishExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(publishQueueSize), runnable -> {
+          Thread thread = new Thread(runnable, "broadcast-publish");
+          thread.setDaemon(true);
+          return thread;
+        }, (task, executor) -> {
+          dropped.increment();
+          log.warn("Broadcast publish queue full, frame dropped");
+        });
+
+    this.listenerContainer = new RedisMessageListenerContainer();
+    listenerContainer.setConnectionFactory(connectionFactory);
+    listenerContainer.setTaskExecutor(dispatchExecutor);
+    listenerContainer.addMessageListener((message, pattern) -> dispatch(message.getBody()),
+        new ChannelTopic(channel));
+  }
+
+  @PostConstruct
+  public void start() {
+    listenerContainer.afterPropertiesSet();
+    listenerContainer.start();
+  }
+
+  // frame의 payload는 이미 직렬화된 바이트라 노드당 한 번만 인코딩해서 보낸다.
+  @Override
+  public void publish(BroadcastFrame frame) {
+    publishExecutor.execute(() -> {
+      try (RedisConnection connection = connectionFactory.getConnection()) {
+        connection.publish(channel, frame.encode());
+      } catch (RuntimeException e) {
+        log.warn("Failed to publish broadcast to {}", frame.getDestination(), e);
+      }
+    });
+  }
+
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  @Override
+  public void subscribe(Consumer<BroadcastFrame> listener) {
+    listeners.add(listener);
+  }
+
+  @PreDestroy
+  public void shutdown() throws Exception {
+    listenerContainer.destroy();
+    dispatchExecutor.shutdown();
+    publishExecutor.shutdown();
+    if (!publishExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+      log.warn("Broadcast publish queue not drained before shutdown");
+    }
+  }
+
+  private void dispatch(byte[] body) {
+    BroadcastFrame frame;
+    try {
+      frame = BroadcastFrame.decode(body);
+    } catch (RuntimeException e) {
+      log.warn("Dropping malformed broadcast frame ({} bytes)", body.length, e);
+      return;
+    }
+    for (Consumer<BroadcastFrame> listener : listeners) {
+      listener.accept(frame);
+    }
+  }
+}
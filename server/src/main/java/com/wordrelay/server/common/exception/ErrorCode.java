@@ -11,12 +11,16 @@ public enum ErrorCode {
   INVALID_WORD(400, "유효하지 않은 단어입니다."),
   NOT_FOLLOWING_RULES(400, "끝말잇기 규칙을 따르지 않는 단어입니다."),
   WORD_ALREADY_USED(400, "이미 사용된 단어입니다."),
+  WORD_ALREADY_ANSWERED(409, "다른 플레이어가 먼저 답했습니다."),
   WORD_TOO_SHORT(400, "단어가 너무 짧습니다."),
   NOT_A_REAL_WORD(400, "존재하지 않는 단어입니다."),
   GAME_NOT_STARTED(400, "게임이 아직 시작되지 않았습니다."),
   GAME_ALREADY_ENDED(400, "게임이 종료되었습니다."),
+  ROOM_NOT_FOUND(404, "방을 찾을 수 없습니다."),
+  INVALID_ROOM_ID(400, "방 ID가 유효하지 않습니다."),
   PLAYER_NOT_FOUND(404, "플레이어를 찾을 수 없습니다."),
   UNAUTHORIZED_MOVE(403, "잘못된 차례입니다."),
+  TOO_MANY_REQUESTS(429, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
   SERVER_ERROR(500, "서버 오류가 발생했습니다."),
   BROWSER_ID_MISSING(400, "브라우저 ID가 누락되었습니다."),
   USER_NOT_FOUND(404, "사용자를 찾을 수 없습니다."),
@@ -1,5 +1,7 @@
 package com.wordrelay.server.common.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.wordrelay.server.common.exception.ErrorCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -9,12 +11,18 @@ public class ApiResponse<T> {
   private final int code;   // 응답 코드 (예: 200, 400, 500)
   private final String message;  // 응답 메시지
   private final T data;    // 실제 데이터
+  @JsonIgnore
+  private final ErrorCode errorCode;  // 거절 사유. 클라이언트에는 보내지 않고 서버 안에서만 쓴다.
 
   public static <T> ApiResponse<T> success(T data) {
-    return new ApiResponse<>(200, "Success", data);
+    return new ApiResponse<>(200, "Success", data, null);
   }
 
   public static <T> ApiResponse<T> error(int code, String message) {
-    return new ApiResponse<>(code, message, null);
+    return new ApiResponse<>(code, message, null, null);
+  }
+
+  public static <T> ApiResponse<T> error(ErrorCode errorCode) {
+    return new ApiResponse<>(errorCode.getCode(), errorCode.getMessage(), null, errorCode);
   }
 }
@@ -1,81 +1,120 @@
 package com.wordrelay.server.config;
 
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection.PipeliningFlushPolicy;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 @RequiredArgsConstructor
 public class RedisConfig {
+    // 리더보드, 세션, 현재 단어 키는 모두 DB 0 하나에 두고 키 접두사로 구분한다.
+    // Redis 연결은 DB를 하나만 선택할 수 있으므로, DB를 나누면 DB마다 소켓이 따로 열린다.
+    public static final int LEADER_BOARD_DATABASE = 0;
+    public static final String SESSION_KEY_PREFIX = "session:";
+
     private final RedisProperties redisProperties;
 
-    @Bean(name = "redisConnectionFactoryLeaderBoard")
-    public RedisConnectionFactory redisConnectionFactoryLeaderBoard() {
-        RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
+    @Value("${game.redis.pipeline-flush-size:64}")
+    private int pipelineFlushSize;
 
-        redisStandaloneConfiguration.setHostName(redisProperties.getHost());
-        redisStandaloneConfiguration.setPort(redisProperties.getPort());
-        redisStandaloneConfiguration.setDatabase(0);
-
-        return new LettuceConnectionFactory(redisStandaloneConfiguration);
+    // 커넥션 팩토리와 pub/sub 리스너가 이벤트 루프, 타이머, 재연결 스케줄러를 하나로 공유한다.
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources redisClientResources() {
+        return DefaultClientResources.create();
     }
 
-    @Bean(name = "redisConnectionFactorySession")
-    public RedisConnectionFactory redisConnectionFactorySession() {
-        RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
-
-        redisStandaloneConfiguration.setHostName(redisProperties.getHost());
-        redisStandaloneConfiguration.setPort(redisProperties.getPort());
-        redisStandaloneConfiguration.setDatabase(1);
+    @Bean
+    public LettuceClientConfiguration redisClientConfiguration(ClientResources redisClientResources) {
+        RedisProperties.Pool pool = redisProperties.getLettuce().getPool();
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder;
+
+        if (Boolean.TRUE.equals(pool.getEnabled())) {
+            GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+            poolConfig.setMaxTotal(pool.getMaxActive());
+            poolConfig.setMaxIdle(pool.getMaxIdle());
+            poolConfig.setMinIdle(pool.getMinIdle());
+            if (pool.getMaxWait() != null) {
+                poolConfig.setMaxWait(pool.getMaxWait());
+            }
+            builder = LettucePoolingClientConfiguration.builder().poolConfig(poolConfig);
+        } else {
+            builder = LettuceClientConfiguration.builder();
+        }
+
+        builder.clientResources(redisClientResources);
+        if (redisProperties.getTimeout() != null) {
+            builder.commandTimeout(redisProperties.getTimeout());
+        }
+        return builder.build();
+    }
 
-        return new LettuceConnectionFactory(redisStandaloneConfiguration);
+    // 팩토리는 하나이고 기존 용도별 이름은 별칭으로 남긴다. 일반 명령은 공유 네이티브 연결 하나로 다중화된다.
+    @Bean(name = {"redisConnectionFactory", "redisConnectionFactoryLeaderBoard",
+        "redisConnectionFactorySession", "redisConnectionFactoryCurrentWord"})
+    public RedisConnectionFactory redisConnectionFactory(LettuceClientConfiguration redisClientConfiguration) {
+        return createConnectionFactory(LEADER_BOARD_DATABASE, redisClientConfiguration);
     }
 
     @Bean(name = "redisTemplateLeaderBoard")
     public RedisTemplate<String, String> redisTemplateLeaderBoard(@Qualifier("redisConnectionFactoryLeaderBoard") RedisConnectionFactory redisConnectionFactoryLeaderBoard) {
-        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
-
-        redisTemplate.setConnectionFactory(redisConnectionFactoryLeaderBoard);
-        redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new StringRedisSerializer());
-
-        return redisTemplate;
+        return createRedisTemplate(redisConnectionFactoryLeaderBoard);
     }
 
     @Bean(name = "redisTemplateSession")
     public RedisTemplate<String, String> redisTemplateSession(@Qualifier("redisConnectionFactorySession") RedisConnectionFactory redisConnectionFactorySession) {
-        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        return createRedisTemplate(redisConnectionFactorySession);
+    }
 
-        redisTemplate.setConnectionFactory(redisConnectionFactorySession);
-        redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new StringRedisSerializer());
+    @Bean(name = "redisTemplateCurrentWord")
+    public RedisTemplate<String, String> redisTemplateCurrentWord(@Qualifier("redisConnectionFactoryCurrentWord") RedisConnectionFactory redisConnectionFactoryCurrentWord) {
+        return createRedisTemplate(redisConnectionFactoryCurrentWord);
+    }
 
-        return redisTemplate;
+    // 비동기 턴 처리용. 같은 Lettuce 커넥션 팩토리를 쓰므로 추가 연결은 생기지 않는다.
+    @Bean(name = "reactiveRedisTemplateCurrentWord")
+    public ReactiveStringRedisTemplate reactiveRedisTemplateCurrentWord(@Qualifier("redisConnectionFactoryCurrentWord") RedisConnectionFactory redisConnectionFactoryCurrentWord) {
+        return new ReactiveStringRedisTemplate((ReactiveRedisConnectionFactory) redisConnectionFactoryCurrentWord);
     }
 
-    @Bean(name = "redisConnectionFactoryCurrentWord")
-    public RedisConnectionFactory redisConnectionFactoryCurrentWord() {
+    private LettuceConnectionFactory createConnectionFactory(int database, LettuceClientConfiguration clientConfiguration) {
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
 
         redisStandaloneConfiguration.setHostName(redisProperties.getHost());
         redisStandaloneConfiguration.setPort(redisProperties.getPort());
-        redisStandaloneConfiguration.setDatabase(2);
+        redisStandaloneConfiguration.setDatabase(database);
 
-        return new LettuceConnectionFactory(redisStandaloneConfiguration);
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(redisStandaloneConfiguration, clientConfiguration);
+        connectionFactory.setShareNativeConnection(true);
+        // 파이프라인 명령을 모아서 한 번에 flush 한다.
+        connectionFactory.setPipeliningFlushPolicy(PipeliningFlushPolicy.buffered(pipelineFlushSize));
+        return connectionFactory;
     }
 
-    @Bean(name = "redisTemplateCurrentWord")
-    public RedisTemplate<String, String> redisTemplateCurrentWord(@Qualifier("redisConnectionFactoryCurrentWord") RedisConnectionFactory redisConnectionFactoryCurrentWord) {
+    // browserId는 클라이언트가 보내는 값이라 다른 키와 겹치지 않도록 접두사를 붙인다.
+    public static String sessionKey(String browserId) {
+        return SESSION_KEY_PREFIX + browserId;
+    }
+
+    private RedisTemplate<String, String> createRedisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
 
-        redisTemplate.setConnectionFactory(redisConnectionFactoryCurrentWord);
+        redisTemplate.setConnectionFactory(connectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new StringRedisSerializer());
 
@@ -1,12 +1,17 @@
 package com.wordrelay.server.config;
 
+import com.wordrelay.server.broker.BatchingSessionDecoratorFactory;
+import com.wordrelay.server.broker.BroadcastRelayBridge;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -16,11 +21,44 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   @Value("${ALLOW_ORIGINS}")
   private String ALLOW_ORIGINS;
 
+  // 켜면 STOMP 입출력 채널의 핸들러(및 그 안의 Redis/JDBC 블로킹 호출)를 가상 스레드에서 실행한다.
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
+  private final BroadcastRelayBridge broadcastRelayBridge;
+  private final BatchingSessionDecoratorFactory batchingSessionDecoratorFactory;
+
   @Override
   public void configureMessageBroker(MessageBrokerRegistry config) {
-    config.enableSimpleBroker("/game"); // 클라이언트 구독 경로
-    config.setApplicationDestinationPrefixes("/app"); // 클라이언트 -> 서버 전송 경로
-//    config.setUserDestinationPrefix("/user"); // 서버 -> 특정 유저 전송 경로
+    config.enableSimpleBroker("/game", "/queue") // 클라이언트 구독 경로 (방별 경로는 /game/{roomId}/..., 개인 응답은 /user/queue/...)
+        .setSelectorHeaderName(null); // selector 헤더를 쓰지 않으므로 구독자마다 표현식을 평가하지 않는다.
+    if (broadcastRelayBridge.isEnabled()) {
+      config.configureBrokerChannel().interceptors(broadcastRelayBridge); // 다른 노드로 /game 방송 중계
+    }
+    config.setApplicationDestinationPrefixes("/app"); // 클라이언트 -> 서버 전송 경로 (방별 경로는 /app/{roomId}/...)
+    config.setUserDestinationPrefix("/user"); // 서버 -> 특정 유저 전송 경로
+    config.setPreservePublishOrder(virtualThreads); // 가상 스레드에서도 세션별 송신 순서를 유지한다.
+  }
+
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    if (virtualThreads) {
+      registration.executor(virtualThreadExecutor("ws-inbound-"));
+    }
+  }
+
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    if (virtualThreads) {
+      registration.executor(virtualThreadExecutor("ws-outbound-"));
+    }
+  }
+
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    registration.setSendTimeLimit(batchingSessionDecoratorFactory.getSendTimeLimit())
+        .setSendBufferSizeLimit(batchingSessionDecoratorFactory.getSendBufferSizeLimit())
+        .addDecoratorFactory(batchingSessionDecoratorFactory); // 세션별 송신 큐에서 프레임을 모아 보낸다.
   }
 
   @Override
@@ -28,6 +66,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     registry.addEndpoint("/ws/game")
         .setAllowedOrigins(ALLOW_ORIGINS)
         .withSockJS();
+    registry.setPreserveReceiveOrder(virtualThreads); // 메시지마다 가상 스레드가 생겨도 세션별 수신 순서를 유지한다.
+  }
+
+  private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+    executor.setVirtualThreads(true);
+    return executor;
   }
 
 
@@ -1,13 +1,37 @@
 package com.wordrelay.server.controller;
 
+import com.wordrelay.server.common.exception.ErrorCode;
 import com.wordrelay.server.common.response.ApiResponse;
+import com.wordrelay.server.dto.RankResponse;
+import com.wordrelay.server.dto.RankingEntry;
+import com.wordrelay.server.dto.RoomRequest;
+import com.wordrelay.server.dto.RoomResponse;
 import com.wordrelay.server.dto.WordMessage;
 import com.wordrelay.server.dto.WordResultResponse;
+import com.wordrelay.server.metrics.GameMetrics;
+import com.wordrelay.server.metrics.GameMetrics.Stage;
+import com.wordrelay.server.model.Room;
+import com.wordrelay.server.service.BotService;
 import com.wordrelay.server.service.GameService;
+import com.wordrelay.server.service.LeaderboardService;
+import com.wordrelay.server.service.RoomService;
+import com.wordrelay.server.service.SocketService;
+import com.wordrelay.server.service.SubmissionRateLimiter;
+import com.wordrelay.server.service.UserService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -16,11 +40,109 @@ import org.springframework.web.bind.annotation.RestController;
 public class GameController {
 
   private final GameService gameService;
+  private final RoomService roomService;
+  private final SocketService socketService;
+  private final UserService userService;
+  private final LeaderboardService leaderboardService;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final SubmissionRateLimiter submissionRateLimiter;
+  private final GameMetrics gameMetrics;
+  private final BotService botService;
+
+  @Value("${game.turn.async:false}")
+  private boolean asyncTurns;
 
   @MessageMapping("/send")
-  @SendTo("/game/word")
-  public ApiResponse<WordResultResponse> sendWord(WordMessage wordMessage) {
-    return gameService.sendWord(wordMessage);
+  public void sendWord(WordMessage wordMessage,
+      @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+    handleWord(Room.DEFAULT_ROOM_ID, "/game/word", wordMessage, sessionId);
+  }
+
+  @MessageMapping("/{roomId}/send")
+  public void sendRoomWord(@DestinationVariable String roomId, WordMessage wordMessage,
+      @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+    handleWord(roomId, "/game/" + roomId + "/word", wordMessage, sessionId);
+  }
+
+  @PostMapping("/api/rooms")
+  public ApiResponse<RoomResponse> createRoom(@RequestParam(defaultValue = "false") boolean bot) {
+    return ApiResponse.success(toResponse(roomService.createRoom(bot)));
+  }
+
+  @PostMapping("/api/rooms/{roomId}/join")
+  public ApiResponse<RoomResponse> joinRoom(@PathVariable String roomId,
+      @RequestBody RoomRequest request) {
+    return ApiResponse.success(toResponse(roomService.join(roomId, request.getBrowserId())));
+  }
+
+  @PostMapping("/api/rooms/{roomId}/leave")
+  public ApiResponse<RoomResponse> leaveRoom(@PathVariable String roomId,
+      @RequestBody RoomRequest request) {
+    return ApiResponse.success(toResponse(roomService.leave(roomId, request.getBrowserId())));
+  }
+
+  @GetMapping("/api/score")
+  public ApiResponse<Long> getScore(@RequestParam String browserId) {
+    return ApiResponse.success(userService.getScore(browserId));
+  }
+
+  @GetMapping("/api/leaderboard")
+  public ApiResponse<List<RankingEntry>> getLeaderboard() {
+    return ApiResponse.success(leaderboardService.getTopRankings());
+  }
+
+  @GetMapping("/api/leaderboard/rank")
+  public ApiResponse<RankResponse> getRank(@RequestParam String browserId) {
+    return ApiResponse.success(leaderboardService.getRank(browserId));
+  }
+
+  // async 모드면 응답은 Redis 응답을 받은 스레드에서 보내고, 인바운드 스레드는 바로 반환된다.
+  private void handleWord(String roomId, String destination, WordMessage wordMessage,
+      String sessionId) {
+    if (!admit(wordMessage, sessionId)) {
+      return;
+    }
+    if (asyncTurns) {
+      gameService.sendWordAsync(roomId, wordMessage)
+          .thenAccept(response -> reply(roomId, destination, wordMessage, response, sessionId))
+          .exceptionally(e -> {
+            log.warn("Failed to reply to async turn: destination={}", destination, e);
+            return null;
+          });
+    } else {
+      reply(roomId, destination, wordMessage, gameService.sendWord(roomId, wordMessage),
+          sessionId);
+    }
+  }
+
+  // Redis/DB를 건드리기 전에 제출 빈도를 제한한다.
+  private boolean admit(WordMessage wordMessage, String sessionId) {
+    if (submissionRateLimiter.tryAcquire(wordMessage.getBrowserId(), sessionId)) {
+      return true;
+    }
+    gameMetrics.rejected(ErrorCode.TOO_MANY_REQUESTS);
+    socketService.sendToSession(sessionId, "/queue/word",
+        ApiResponse.error(ErrorCode.TOO_MANY_REQUESTS));
+    return false;
+  }
+
+  // 성공한 턴은 방 전체에 방송하고, 실패 응답은 보낸 사람에게만 돌려준다.
+  private void reply(String roomId, String destination, WordMessage wordMessage,
+      ApiResponse<WordResultResponse> response, String sessionId) {
+    if (response.getCode() == 200) {
+      long start = System.nanoTime();
+      messagingTemplate.convertAndSend(destination, response);
+      gameMetrics.record(Stage.BROADCAST, start);
+      botService.onTurnAccepted(roomId, wordMessage.getBrowserId(),
+          response.getData().getCurrentWord());
+    } else {
+      socketService.sendToSession(sessionId, "/queue/word", response);
+    }
+  }
+
+  private RoomResponse toResponse(Room room) {
+    return new RoomResponse(room.getRoomId(), socketService.getCurrentWord(room.getRoomId()),
+        room.getMembers().size());
   }
 
 }
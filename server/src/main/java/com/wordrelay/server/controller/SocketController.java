@@ -1,32 +1,152 @@
 package com.wordrelay.server.controller;
 
+import com.wordrelay.server.common.exception.ErrorCode;
 import com.wordrelay.server.common.response.ApiResponse;
+import com.wordrelay.server.dto.HintResponse;
+import com.wordrelay.server.model.Room;
+import com.wordrelay.server.repository.VersionedWord;
+import com.wordrelay.server.service.CurrentWordCache;
+import com.wordrelay.server.service.HintService;
+import com.wordrelay.server.service.RoomService;
 import com.wordrelay.server.service.SocketService;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @Controller
 @Slf4j
 @RequiredArgsConstructor
 public class SocketController {
   private final SocketService socketService;
+  private final RoomService roomService;
+  private final HintService hintService;
+  private final CurrentWordCache currentWordCache;
 
   @MessageMapping("/connect")
-  public void handleConnection(Map<String, Object> payload) {
+  public void handleConnection(Map<String, Object> payload,
+      @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
     String browserId = (String) payload.get("browserId");
-    socketService.handleUserConnection(browserId);
+    socketService.handleUserConnection(browserId, sessionId);
   }
 
+  @MessageMapping("/{roomId}/connect")
+  public void handleRoomConnection(@DestinationVariable String roomId,
+      Map<String, Object> payload,
+      @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+    String browserId = (String) payload.get("browserId");
+    socketService.handleUserConnection(roomId, browserId, sessionId);
+  }
 
-  // fallback용 API
+  @MessageMapping("/hint")
+  public void handleHint(Map<String, Object> payload,
+      @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+    handleRoomHint(Room.DEFAULT_ROOM_ID, payload, sessionId);
+  }
+
+  // 힌트는 요청한 세션에만 /user/queue/hint로 보낸다.
+  @MessageMapping("/{roomId}/hint")
+  public void handleRoomHint(@DestinationVariable String roomId, Map<String, Object> payload,
+      @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+    Room room = roomService.findRoom(roomId);
+    if (room == null) {
+      socketService.sendToSession(sessionId, "/queue/hint",
+          ApiResponse.error(ErrorCode.ROOM_NOT_FOUND));
+      return;
+    }
+    Object count = payload == null ? null : payload.get("count");
+    int limit = count instanceof Number number ? number.intValue() : 1;
+    socketService.sendToSession(sessionId, "/queue/hint",
+        ApiResponse.success(hintService.getHints(room, limit)));
+  }
+
+
+  // fallback용 API. If-None-Match가 현재 ETag와 같으면 304로 본문을 생략한다.
   @GetMapping("/api/current-word")
-  public ApiResponse<String> getCurrentWord() {
-    String current = socketService.getCurrentWord();
-    return ApiResponse.success(current);
+  @ResponseBody
+  public ResponseEntity<ApiResponse<String>> getCurrentWord(
+      @RequestParam(defaultValue = Room.DEFAULT_ROOM_ID) String roomId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return currentWordResponse(socketService.getVersionedCurrentWord(roomId), ifNoneMatch);
+  }
+
+  // long-poll. If-None-Match가 현재 ETag와 같으면 단어가 바뀔 때까지 최대 wait ms 동안 응답을 미루고,
+  // 그동안 바뀌지 않으면 304를 돌려준다. 요청 스레드는 기다리는 동안 반납된다.
+  @GetMapping(value = "/api/current-word", params = "wait")
+  @ResponseBody
+  public DeferredResult<ResponseEntity<ApiResponse<String>>> awaitCurrentWord(
+      @RequestParam(defaultValue = Room.DEFAULT_ROOM_ID) String roomId,
+      @RequestParam long wait,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    Room room = roomService.getRoom(roomId);
+    VersionedWord current = currentWordCache.get(room);
+    long timeout = Math.clamp(wait, 0, currentWordCache.getMaxWait());
+
+    DeferredResult<ResponseEntity<ApiResponse<String>>> result = new DeferredResult<>(timeout,
+        () -> currentWordResponse(current, current.etag()));
+    if (timeout == 0 || !etagMatches(ifNoneMatch, current)) {
+      result.setResult(currentWordResponse(current, ifNoneMatch));
+      return result;
+    }
+
+    CompletableFuture<VersionedWord> change = currentWordCache.awaitChange(room, current.etag());
+    change.thenAccept(next -> result.setResult(currentWordResponse(next, ifNoneMatch)));
+    result.onCompletion(() -> change.cancel(false));
+    return result;
+  }
+
+  @GetMapping("/api/hint")
+  @ResponseBody
+  public ApiResponse<HintResponse> getHint(
+      @RequestParam(defaultValue = Room.DEFAULT_ROOM_ID) String roomId,
+      @RequestParam(defaultValue = "1") int count) {
+    return ApiResponse.success(hintService.getHints(roomService.getRoom(roomId), count));
+  }
+
+  private static ResponseEntity<ApiResponse<String>> currentWordResponse(VersionedWord current,
+      String ifNoneMatch) {
+    if (etagMatches(ifNoneMatch, current)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(current.etag())
+          .cacheControl(CacheControl.noCache())
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(current.etag())
+        .cacheControl(CacheControl.noCache())
+        .body(ApiResponse.success(current.word()));
+  }
+
+  // If-None-Match는 "*"이거나 쉼표로 구분된 ETag 목록이다. 약한 비교(W/ 무시)로 맞춰 본다.
+  private static boolean etagMatches(String ifNoneMatch, VersionedWord current) {
+    if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+      return false;
+    }
+    String etag = current.etag();
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals("*") || tag.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
   }
 
 
@@ -0,0 +1,105 @@
+package com.wordrelay.server.dictionary;
+
+import com.wordrelay.server.util.DueumRule;
+import com.wordrelay.server.util.HangulUtil;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 음절별로 그 음절로 시작하는 사전 단어의 수와 위치를 담은 이어가기 그래프.
+ * 사전 버킷 안의 단어는 정렬되어 있어 같은 첫 음절을 가진 단어들이 연속 구간을 이룬다.
+ * 배열은 (음절 - 0xAC00)을 인덱스로 사용한다.
+ */
+@Slf4j
+@Component
+public class ContinuationIndex {
+
+  private final DictionaryIndex dictionaryIndex;
+
+  private volatile Graph graph;
+
+  public ContinuationIndex(DictionaryIndex dictionaryIndex) {
+    this.dictionaryIndex = dictionaryIndex;
+  }
+
+  @PostConstruct
+  public void build() {
+    if (!dictionaryIndex.isEnabled()) {
+      return;
+    }
+
+    int[] start = new int[HangulUtil.SYLLABLE_COUNT];
+    int[] count = new int[HangulUtil.SYLLABLE_COUNT];
+    for (int bucket = 0; bucket < dictionaryIndex.bucketCount(); bucket++) {
+      int size = dictionaryIndex.bucketSize(bucket);
+      for (int i = 0; i < size; i++) {
+        int syllable = dictionaryIndex.firstChar(bucket, i) - HangulUtil.SYLLABLE_BASE;
+        if (count[syllable]++ == 0) {
+          start[syllable] = i;
+        }
+      }
+    }
+    this.graph = new Graph(start, count);
+
+    int deadEnds = 0;
+    for (int c : count) {
+      if (c == 0) {
+        deadEnds++;
+      }
+    }
+    log.info("Continuation index built: {} syllables without continuation", deadEnds);
+  }
+
+  public boolean isAvailable() {
+    return graph != null;
+  }
+
+  public int continuationCount(char syllable) {
+    if (!HangulUtil.isSyllable(syllable)) {
+      return 0;
+    }
+    return graph.count[syllable - HangulUtil.SYLLABLE_BASE];
+  }
+
+  public boolean hasContinuation(char syllable) {
+    return continuationCount(syllable) > 0;
+  }
+
+  // 끝 음절 뒤에 올 수 있는 단어 수. 두음법칙으로 바뀐 음절로 시작하는 단어도 함께 센다.
+  public int nextWordCount(char lastSyllable) {
+    char alternative = DueumRule.alternative(lastSyllable);
+    int count = continuationCount(lastSyllable);
+    return alternative == 0 ? count : count + continuationCount(alternative);
+  }
+
+  // 이 단어로 끝나면 다음 사람이 이을 단어가 없는지
+  public boolean isWinningWord(String word) {
+    return nextWordCount(word.charAt(word.length() - 1)) == 0;
+  }
+
+  // 이 음절로 시작하는 단어 구간의 시작 위치 (사전 버킷 기준). continuationCount가 0이면 의미 없다.
+  int firstIndex(char syllable) {
+    return graph.start[syllable - HangulUtil.SYLLABLE_BASE];
+  }
+
+  public List<String> continuations(char syllable) {
+    int count = continuationCount(syllable);
+    List<String> words = new ArrayList<>(count);
+    if (count == 0) {
+      return words;
+    }
+    int offset = syllable - HangulUtil.SYLLABLE_BASE;
+    int bucket = HangulUtil.choseongIndex(syllable);
+    for (int i = 0; i < count; i++) {
+      words.add(dictionaryIndex.wordAt(bucket, graph.start[offset] + i));
+    }
+    return words;
+  }
+
+  private record Graph(int[] start, int[] count) {
+
+  }
+}
@@ -0,0 +1,316 @@
+package com.wordrelay.server.dictionary;
+
+import com.wordrelay.server.mapper.WordMapper;
+import com.wordrelay.server.model.Word;
+import com.wordrelay.server.util.HangulUtil;
+import jakarta.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 dictionary 테이블 전체를 초성별로 읽어 메모리에 올려두는 읽기 전용 사전 인덱스.
+ * 초성별 버킷마다 정렬된 단어를 하나의 char 배열에 이어 붙여 저장하고, 이진 탐색으로 조회한다.
+ * dictionary.snapshot.path가 있으면 스냅샷 파일을 메모리 매핑해 DB를 읽지 않고 바로 조회를 시작한다.
+ */
+@Slf4j
+@Component
+public class DictionaryIndex {
+
+  private final WordMapper wordMapper;
+  private final boolean enabled;
+  private final DictionarySnapshot snapshot;
+
+  private volatile Bucket[] buckets;
+  private volatile long revision;
+  // 사전 전체가 메모리에 있으므로 캐시 적중이 아니라 찾은 단어 / 사전에 없는 단어 수다.
+  private final LongAdder found = new LongAdder();
+  private final LongAdder notFound = new LongAdder();
+
+  public DictionaryIndex(WordMapper wordMapper, boolean enabled) {
+    this(wordMapper, enabled, "");
+  }
+
+  @Autowired
+  public DictionaryIndex(WordMapper wordMapper,
+      @Value("${dictionary.index.enabled:true}") boolean enabled,
+      @Value("${dictionary.snapshot.path:}") String snapshotPath) {
+    this.wordMapper = wordMapper;
+    this.enabled = enabled;
+    this.snapshot = snapshotPath.isBlank() ? null : new DictionarySnapshot(Path.of(snapshotPath));
+  }
+
+  @PostConstruct
+  public void load() {
+    if (!enabled) {
+      log.info("Dictionary index disabled, falling back to per-turn DB lookups");
+      return;
+    }
+
+    long start = System.nanoTime();
+    long revision = wordMapper.selectRevision();
+    Bucket[] loaded = snapshot == null ? null : snapshot.open(revision);
+    String source = "snapshot";
+    if (loaded == null) {
+      loaded = new Bucket[HangulUtil.CHOSEONG_COUNT];
+      for (int i = 0; i < loaded.length; i++) {
+        loaded[i] = Bucket.of(wordMapper.getAllWords(i), i);
+      }
+      source = "database";
+      if (snapshot != null) {
+        snapshot.write(loaded, revision);
+      }
+    }
+    this.buckets = loaded;
+    this.revision = revision;
+
+    log.info("Dictionary index loaded from {}: {} words in {} ms", source, size(),
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public Word find(String word) {
+    Bucket bucket = bucketOf(word);
+    if (bucket == null) {
+      return null;
+    }
+    int index = bucket.indexOf(word);
+    if (index < 0) {
+      notFound.increment();
+      return null;
+    }
+    found.increment();
+    return bucket.toWord(index);
+  }
+
+  public boolean contains(String word) {
+    Bucket bucket = bucketOf(word);
+    return bucket != null && bucket.indexOf(word) >= 0;
+  }
+
+  public int size() {
+    Bucket[] current = buckets;
+    if (current == null) {
+      return 0;
+    }
+    int total = 0;
+    for (Bucket bucket : current) {
+      total += bucket.size();
+    }
+    return total;
+  }
+
+  // 적재한 사전의 revision. 사전에서 파생된 캐시 파일이 같은 사전으로 만든 것인지 확인할 때 쓴다.
+  public long getRevision() {
+    return revision;
+  }
+
+  public long getFoundCount() {
+    return found.sum();
+  }
+
+  public long getNotFoundCount() {
+    return notFound.sum();
+  }
+
+  int bucketCount() {
+    Bucket[] current = buckets;
+    return current == null ? 0 : current.length;
+  }
+
+  int bucketSize(int bucket) {
+    return buckets[bucket].size();
+  }
+
+  char firstChar(int bucket, int index) {
+    return buckets[bucket].charAt(index, 0);
+  }
+
+  char lastChar(int bucket, int index) {
+    Bucket current = buckets[bucket];
+    return current.charAt(index, current.length(index) - 1);
+  }
+
+  int wordLength(int bucket, int index) {
+    return buckets[bucket].length(index);
+  }
+
+  String wordAt(int bucket, int index) {
+    return buckets[bucket].wordAt(index);
+  }
+
+  private Bucket bucketOf(String word) {
+    Bucket[] current = buckets;
+    if (current == null || word == null || word.isEmpty()) {
+      return null;
+    }
+    int choseong = HangulUtil.choseongIndex(word.charAt(0));
+    return choseong < 0 ? null : current[choseong];
+  }
+
+  /**
+   * 한 초성에 속하는 단어들. i번째 단어는 chars[offsets[i], offsets[i + 1]) 구간이다.
+   * DB에서 읽으면 힙 배열을 감싸고, 스냅샷에서 열면 매핑된 파일 영역을 그대로 가리킨다.
+   */
+  static final class Bucket {
+
+    private final CharBuffer chars;
+    private final IntBuffer offsets;
+    private final IntBuffer ids;
+    private final LongBuffer winning;
+    private final int size;
+
+    Bucket(CharBuffer chars, IntBuffer offsets, IntBuffer ids, LongBuffer winning) {
+      this.chars = chars;
+      this.offsets = offsets;
+      this.ids = ids;
+      this.winning = winning;
+      this.size = ids.limit();
+    }
+
+    // 첫 글자가 이 버킷의 초성이 아닌 단어는 조회될 수 없으므로 제외한다.
+    static Bucket of(List<Word> source, int choseong) {
+      List<Word> words = new ArrayList<>(source.size());
+      for (Word word : source) {
+        if (word != null && word.getWord() != null && !word.getWord().isEmpty()) {
+          if (HangulUtil.choseongIndex(word.getWord().charAt(0)) == choseong) {
+            words.add(word);
+          }
+        }
+      }
+      words.sort(Comparator.comparing(Word::getWord));
+
+      int length = 0;
+      for (Word word : words) {
+        length += word.getWord().length();
+      }
+
+      char[] chars = new char[length];
+      int[] offsets = new int[words.size() + 1];
+      int[] ids = new int[words.size()];
+      long[] winning = new long[winningLength(words.size())];
+
+      int count = 0;
+      int position = 0;
+      String previous = null;
+      for (Word word : words) {
+        String text = word.getWord();
+        if (text.equals(previous)) {
+          continue;
+        }
+        text.getChars(0, text.length(), chars, position);
+        offsets[count] = position;
+        ids[count] = word.getId();
+        if (Boolean.TRUE.equals(word.getWinningWord())) {
+          winning[count >>> 6] |= 1L << count;
+        }
+        position += text.length();
+        previous = text;
+        count++;
+      }
+      offsets[count] = position;
+
+      return new Bucket(CharBuffer.wrap(chars, 0, position), IntBuffer.wrap(offsets, 0, count + 1),
+          IntBuffer.wrap(ids, 0, count), LongBuffer.wrap(winning, 0, winningLength(count)));
+    }
+
+    static int winningLength(int size) {
+      return (size + 63) >>> 6;
+    }
+
+    int size() {
+      return size;
+    }
+
+    int charCount() {
+      return offsets.get(size);
+    }
+
+    int indexOf(String word) {
+      int low = 0;
+      int high = size - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        int cmp = compare(mid, word);
+        if (cmp < 0) {
+          low = mid + 1;
+        } else if (cmp > 0) {
+          high = mid - 1;
+        } else {
+          return mid;
+        }
+      }
+      return -1;
+    }
+
+    int length(int index) {
+      return offsets.get(index + 1) - offsets.get(index);
+    }
+
+    char charAt(int index, int position) {
+      return chars.get(offsets.get(index) + position);
+    }
+
+    boolean isWinning(int index) {
+      return (winning.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    String wordAt(int index) {
+      char[] text = new char[length(index)];
+      chars.get(offsets.get(index), text);
+      return new String(text);
+    }
+
+    Word toWord(int index) {
+      Word word = new Word();
+      word.setId(ids.get(index));
+      word.setWord(wordAt(index));
+      word.setWinningWord(isWinning(index));
+      return word;
+    }
+
+    // 스냅샷 기록용. 버퍼 위치를 건드리지 않도록 절대 인덱스로만 읽는다.
+    void writeTo(ByteBuffer target) {
+      for (int i = 0; i < winningLength(size); i++) {
+        target.putLong(winning.get(i));
+      }
+      for (int i = 0; i <= size; i++) {
+        target.putInt(offsets.get(i));
+      }
+      for (int i = 0; i < size; i++) {
+        target.putInt(ids.get(i));
+      }
+      int charCount = charCount();
+      for (int i = 0; i < charCount; i++) {
+        target.putChar(chars.get(i));
+      }
+    }
+
+    private int compare(int index, String word) {
+      int from = offsets.get(index);
+      int length = offsets.get(index + 1) - from;
+      int limit = Math.min(length, word.length());
+      for (int i = 0; i < limit; i++) {
+        char c = chars.get(from + i);
+        char k = word.charAt(i);
+        if (c != k) {
+          return c - k;
+        }
+      }
+      return length - word.length();
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package com.wordrelay.server.dictionary;
+
+import com.wordrelay.server.dictionary.DictionaryIndex.Bucket;
+import com.wordrelay.server.util.HangulUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DictionaryIndex 버킷을 그대로 옮겨 담은 바이너리 스냅샷 파일.
+ *
+ * <pre>
+ * header: magic(int) formatVersion(int) revision(long) bucketCount(int) checksum(int)
+ *         bucketCount × [wordCount(int) charCount(int)]
+ * body:   버킷마다 winning(long[]) offsets(int[n + 1]) ids(int[n]) chars(char[]), 8바이트 정렬
+ * </pre>
+ *
+ * revision은 기록 당시 dictionary 테이블의 상태 값이다. 현재 DB와 다르거나 체크섬이 맞지 않으면 열지 않는다.
+ */
+@Slf4j
+class DictionarySnapshot {
+
+  static final int MAGIC = 0x57524453; // "WRDS"
+  static final int FORMAT_VERSION = 1;
+  private static final int FIXED_HEADER_BYTES = 24;
+
+  private final Path path;
+
+  DictionarySnapshot(Path path) {
+    this.path = path;
+  }
+
+  /**
+   * 스냅샷을 읽기 전용으로 매핑해 버킷을 만든다. 파일이 없거나 쓸 수 없는 상태면 null을 반환한다.
+   */
+  Bucket[] open(long revision) {
+    if (!Files.isRegularFile(path)) {
+      return null;
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // 매핑은 채널을 닫아도 유지되고, 버퍼가 수거될 때 해제된다.
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.limit() < FIXED_HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+        log.warn("Ignoring dictionary snapshot {}: not a snapshot file", path);
+        return null;
+      }
+      if (buffer.getInt(4) != FORMAT_VERSION) {
+        log.warn("Ignoring dictionary snapshot {}: format version {}", path, buffer.getInt(4));
+        return null;
+      }
+      if (buffer.getLong(8) != revision) {
+        log.info("Ignoring stale dictionary snapshot {}: revision {} != {}", path,
+            buffer.getLong(8), revision);
+        return null;
+      }
+
+      int bucketCount = buffer.getInt(16);
+      int headerBytes = headerBytes(bucketCount);
+      if (bucketCount != HangulUtil.CHOSEONG_COUNT || buffer.limit() < headerBytes) {
+        log.warn("Ignoring dictionary snapshot {}: truncated header", path);
+        return null;
+      }
+      if (buffer.getInt(20) != checksum(buffer.slice(headerBytes, buffer.limit() - headerBytes))) {
+        log.warn("Ignoring dictionary snapshot {}: checksum mismatch", path);
+        return null;
+      }
+
+      Bucket[] buckets = new Bucket[bucketCount];
+      int position = headerBytes;
+      for (int i = 0; i < bucketCount; i++) {
+        int words = buffer.getInt(FIXED_HEADER_BYTES + i * 8);
+        int chars = buffer.getInt(FIXED_HEADER_BYTES + i * 8 + 4);
+        int winningBytes = Bucket.winningLength(words) * Long.BYTES;
+        int offsetBytes = (words + 1) * Integer.BYTES;
+        int idBytes = words * Integer.BYTES;
+        int charBytes = chars * Character.BYTES;
+
+        buckets[i] = new Bucket(
+            buffer.slice(position + winningBytes + offsetBytes + idBytes, charBytes).asCharBuffer(),
+            buffer.slice(position + winningBytes, offsetBytes).asIntBuffer(),
+            buffer.slice(position + winningBytes + offsetBytes, idBytes).asIntBuffer(),
+            buffer.slice(position, winningBytes).asLongBuffer());
+        position += align(winningBytes + offsetBytes + idBytes + charBytes);
+      }
+      return buckets;
+    } catch (IOException | IndexOutOfBoundsException e) {
+      log.warn("Failed to open dictionary snapshot {}", path, e);
+      return null;
+    }
+  }
+
+  /**
+   * 임시 파일에 쓴 뒤 원자적으로 교체한다. 실패해도 이미 적재된 인덱스는 그대로 쓴다.
+   */
+  void write(Bucket[] buckets, long revision) {
+    int headerBytes = headerBytes(buckets.length);
+    long bodyBytes = 0;
+    for (Bucket bucket : buckets) {
+      bodyBytes += align((long) Bucket.winningLength(bucket.size()) * Long.BYTES
+          + (2L * bucket.size() + 1) * Integer.BYTES
+          + (long) bucket.charCount() * Character.BYTES);
+    }
+    if (headerBytes + bodyBytes > Integer.MAX_VALUE) {
+      log.warn("Dictionary too large for a snapshot: {} bytes", bodyBytes);
+      return;
+    }
+
+    ByteBuffer body = ByteBuffer.allocate((int) bodyBytes);
+    ByteBuffer header = ByteBuffer.allocate(headerBytes);
+    header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(revision).putInt(buckets.length);
+    header.putInt(0); // 체크섬 자리
+    for (Bucket bucket : buckets) {
+      header.putInt(bucket.size()).putInt(bucket.charCount());
+      int start = body.position();
+      bucket.writeTo(body);
+      body.position(start + align(body.position() - start));
+    }
+    header.putInt(20, checksum(body.flip().duplicate()));
+
+    try {
+      Path parent = path.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+      Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        header.flip();
+        while (header.hasRemaining()) {
+          channel.write(header);
+        }
+        while (body.hasRemaining()) {
+          channel.write(body);
+        }
+        channel.force(true);
+      }
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      log.info("Dictionary snapshot written to {} ({} bytes, revision {})", path,
+          headerBytes + bodyBytes, revision);
+    } catch (IOException e) {
+      log.warn("Failed to write dictionary snapshot {}", path, e);
+    }
+  }
+
+  private static int headerBytes(int bucketCount) {
+    return align(FIXED_HEADER_BYTES + bucketCount * 8);
+  }
+
+  private static int align(int bytes) {
+    return (bytes + 7) & ~7;
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+
+  private static int checksum(ByteBuffer body) {
+    CRC32C crc = new CRC32C();
+    crc.update(body);
+    return (int) crc.getValue();
+  }
+}
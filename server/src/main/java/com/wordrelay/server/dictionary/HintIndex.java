@@ -0,0 +1,170 @@
+package com.wordrelay.server.dictionary;
+
+import com.wordrelay.server.util.DueumRule;
+import com.wordrelay.server.util.HangulUtil;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 첫 음절별로 힌트 순위를 미리 매겨 둔 인덱스. 같은 첫 음절 구간 안에서 아래 순서로 정렬한다.
+ * <ol>
+ *   <li>끝 음절 뒤에 올 수 있는 단어 수가 적은 단어 (0이면 한방단어)</li>
+ *   <li>후퇴 분석에서 상대가 지는 자리로 보내는 단어, 그중 빨리 끝나는 단어. 상대가 이기는 자리면
+ *       오래 버티는 단어. 분석 결과가 없으면 모두 무승부로 보고 이 기준은 건너뛴다.</li>
+ *   <li>짧은 단어</li>
+ * </ol>
+ * 기동 시 한 번 만들고 이후에는 읽기만 하므로 요청 스레드들이 락 없이 공유한다.
+ */
+@Slf4j
+@Component
+public class HintIndex {
+
+  private static final long INDEX_MASK = (1L << 24) - 1;
+  private static final int MAX_NEXT_COUNT = (1 << 19) - 1;
+  private static final int MAX_DEPTH = (1 << 10) - 1;
+  private static final int MAX_LENGTH = 0xFF;
+  // 깊이 순위 구간. 상대가 지는 자리 < 무승부 < 상대가 이기는 자리
+  private static final int DRAW_RANK = 2 << 10;
+  private static final int WIN_RANK = 3 << 10;
+
+  private final DictionaryIndex dictionaryIndex;
+  private final ContinuationIndex continuationIndex;
+  private final RetrogradeSolver retrogradeSolver;
+
+  // 버킷별 (다음 단어 수 << 44 | 깊이 순위 << 32 | 길이 << 24 | 버킷 내 위치). 첫 음절 구간마다 오름차순이다.
+  private volatile long[][] ranked;
+
+  public HintIndex(DictionaryIndex dictionaryIndex, ContinuationIndex continuationIndex,
+      RetrogradeSolver retrogradeSolver) {
+    this.dictionaryIndex = dictionaryIndex;
+    this.continuationIndex = continuationIndex;
+    this.retrogradeSolver = retrogradeSolver;
+  }
+
+  @PostConstruct
+  public void build() {
+    if (!continuationIndex.isAvailable()) {
+      return;
+    }
+
+    long[][] keys = new long[dictionaryIndex.bucketCount()][];
+    for (int bucket = 0; bucket < keys.length; bucket++) {
+      int size = dictionaryIndex.bucketSize(bucket);
+      long[] bucketKeys = new long[size];
+      int groupStart = 0;
+      for (int i = 0; i < size; i++) {
+        // 버킷은 정렬되어 있으므로 첫 음절이 바뀌는 곳이 구간 경계다.
+        char first = dictionaryIndex.firstChar(bucket, i);
+        if (i > 0 && first != dictionaryIndex.firstChar(bucket, i - 1)) {
+          Arrays.sort(bucketKeys, groupStart, i);
+          groupStart = i;
+        }
+        char last = dictionaryIndex.lastChar(bucket, i);
+        int next = continuationIndex.nextWordCount(last);
+        int length = dictionaryIndex.wordLength(bucket, i);
+        bucketKeys[i] = (long) Math.min(next, MAX_NEXT_COUNT) << 44
+            | (long) depthRank(last) << 32
+            | (long) Math.min(length, MAX_LENGTH) << 24
+            | i;
+      }
+      Arrays.sort(bucketKeys, groupStart, size);
+      keys[bucket] = bucketKeys;
+    }
+    this.ranked = keys;
+    log.info("Hint index built");
+  }
+
+  public boolean isAvailable() {
+    return ranked != null;
+  }
+
+  // last로 이어야 하는 상대 입장의 결과와 남은 수로 순위를 매긴다. 작을수록 좋은 힌트다.
+  private int depthRank(char last) {
+    if (!retrogradeSolver.isAvailable()) {
+      return DRAW_RANK;
+    }
+    int depth = Math.min(retrogradeSolver.depth(last), MAX_DEPTH);
+    return switch (retrogradeSolver.outcome(last)) {
+      case LOSS -> depth;
+      case DRAW -> DRAW_RANK;
+      case WIN -> WIN_RANK + MAX_DEPTH - depth;
+    };
+  }
+
+  /**
+   * lastSyllable 뒤에 이을 수 있는 단어를 순위대로 최대 limit개 돌려준다.
+   * 두음법칙으로 바뀐 음절로 시작하는 단어도 같은 순위 기준으로 섞는다.
+   */
+  public List<String> top(char lastSyllable, int limit, Predicate<String> excluded) {
+    long[][] keys = ranked;
+    List<String> hints = new ArrayList<>(Math.max(0, limit));
+    if (keys == null || limit <= 0 || !HangulUtil.isSyllable(lastSyllable)) {
+      return hints;
+    }
+
+    Cursor primary = cursor(keys, lastSyllable);
+    char alternative = DueumRule.alternative(lastSyllable);
+    Cursor secondary = alternative == 0 ? null : cursor(keys, alternative);
+
+    while (hints.size() < limit) {
+      Cursor source = pick(primary, secondary);
+      if (source == null) {
+        break;
+      }
+      String word = dictionaryIndex.wordAt(source.bucket, (int) (source.peek() & INDEX_MASK));
+      source.position++;
+      if (!excluded.test(word)) {
+        hints.add(word);
+      }
+    }
+    return hints;
+  }
+
+  private Cursor cursor(long[][] keys, char syllable) {
+    int count = continuationIndex.continuationCount(syllable);
+    if (count == 0) {
+      return null;
+    }
+    int bucket = HangulUtil.choseongIndex(syllable);
+    int from = continuationIndex.firstIndex(syllable);
+    return new Cursor(keys[bucket], bucket, from, from + count);
+  }
+
+  private static Cursor pick(Cursor a, Cursor b) {
+    boolean hasA = a != null && a.hasNext();
+    boolean hasB = b != null && b.hasNext();
+    if (hasA && hasB) {
+      return a.peek() <= b.peek() ? a : b;
+    }
+    return hasA ? a : hasB ? b : null;
+  }
+
+  private static final class Cursor {
+
+    private final long[] keys;
+    private final int bucket;
+    private final int end;
+    private int position;
+
+    Cursor(long[] keys, int bucket, int position, int end) {
+      this.keys = keys;
+      this.bucket = bucket;
+      this.position = position;
+      this.end = end;
+    }
+
+    boolean hasNext() {
+      return position < end;
+    }
+
+    // 순위가 같으면 하위 비트인 버킷 내 위치(가나다순)로 갈린다.
+    long peek() {
+      return keys[position];
+    }
+  }
+}
@@ -0,0 +1,403 @@
+package com.wordrelay.server.dictionary;
+
+import com.wordrelay.server.util.DueumRule;
+import com.wordrelay.server.util.HangulUtil;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 음절을 노드, 사전 단어를 간선(첫 음절 -> 끝 음절)으로 보는 그래프를 후퇴 분석으로 푼다.
+ * 이을 단어가 없는 음절(한방단어의 끝 음절)에서 시작해, 지는 자리로 보낼 수 있는 음절은 이기는 자리,
+ * 모든 수가 이기는 자리로 가는 음절은 지는 자리로 거꾸로 전파한다. 끝까지 정해지지 않는 음절은 무승부다.
+ * 한 라운드 안에서 같은 단어를 다시 쓸 수 없다는 규칙은 무시한 근사이다.
+ *
+ * <p>간선 수집과 단계별 전파는 음절 구간을 나눠 fork-join으로 병렬 처리하고,
+ * 결과는 음절별 (승패, 깊이, 최선의 수) 표로 남겨 봇은 한 번의 배열 조회로 수를 고른다.
+ */
+@Slf4j
+@Component
+public class RetrogradeSolver {
+
+  public enum Outcome {
+    DRAW, WIN, LOSS
+  }
+
+  static final int MAGIC = 0x57524253; // "WRBS"
+  static final int FORMAT_VERSION = 1;
+  private static final int HEADER_BYTES = 24;
+  private static final int SPLIT_THRESHOLD = 256;
+  private static final int INDEX_BITS = 24;
+  private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+
+  private final DictionaryIndex dictionaryIndex;
+  private final ContinuationIndex continuationIndex;
+  private final boolean enabled;
+  private final int parallelism;
+  private final Path solutionPath;
+
+  private volatile Solution solution;
+
+  @Autowired
+  public RetrogradeSolver(DictionaryIndex dictionaryIndex, ContinuationIndex continuationIndex,
+      @Value("${game.bot.enabled:true}") boolean enabled,
+      @Value("${game.bot.solver-parallelism:0}") int parallelism,
+      @Value("${game.bot.solution-path:}") String solutionPath) {
+    this.dictionaryIndex = dictionaryIndex;
+    this.continuationIndex = continuationIndex;
+    this.enabled = enabled;
+    this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    this.solutionPath = solutionPath.isBlank() ? null : Path.of(solutionPath);
+  }
+
+  @PostConstruct
+  public void solve() {
+    if (!enabled || !continuationIndex.isAvailable()) {
+      return;
+    }
+
+    long start = System.nanoTime();
+    long revision = dictionaryIndex.getRevision();
+    Solution loaded = solutionPath == null ? null : read(solutionPath, revision);
+    if (loaded == null) {
+      ForkJoinPool pool = new ForkJoinPool(parallelism);
+      try {
+        loaded = compute(pool);
+      } finally {
+        pool.shutdown();
+      }
+      if (solutionPath != null) {
+        write(solutionPath, loaded, revision);
+      }
+    }
+    this.solution = loaded;
+
+    int[] counts = new int[Outcome.values().length];
+    for (byte outcome : loaded.outcome()) {
+      counts[outcome]++;
+    }
+    log.info("Retrograde solution ready in {} ms: win={}, loss={}, draw={}",
+        (System.nanoTime() - start) / 1_000_000, counts[Outcome.WIN.ordinal()],
+        counts[Outcome.LOSS.ordinal()], counts[Outcome.DRAW.ordinal()]);
+  }
+
+  public boolean isAvailable() {
+    return solution != null;
+  }
+
+  // 이 음절로 이어야 하는 사람 입장에서의 결과
+  public Outcome outcome(char syllable) {
+    Solution current = solution;
+    if (current == null || !HangulUtil.isSyllable(syllable)) {
+      return Outcome.DRAW;
+    }
+    return Outcome.values()[current.outcome()[syllable - HangulUtil.SYLLABLE_BASE]];
+  }
+
+  // 승패가 정해지기까지 남은 수. 무승부면 0
+  public int depth(char syllable) {
+    Solution current = solution;
+    if (current == null || !HangulUtil.isSyllable(syllable)) {
+      return 0;
+    }
+    return current.depth()[syllable - HangulUtil.SYLLABLE_BASE];
+  }
+
+  /**
+   * 이기는 자리면 가장 빨리 이기는 수, 지는 자리면 가장 오래 버티는 수, 무승부면 무승부를 유지하는 수.
+   */
+  public String bestMove(char syllable) {
+    Solution current = solution;
+    if (current == null || !HangulUtil.isSyllable(syllable)) {
+      return null;
+    }
+    int ref = current.bestMove()[syllable - HangulUtil.SYLLABLE_BASE];
+    return ref < 0 ? null : dictionaryIndex.wordAt(ref >>> INDEX_BITS, ref & INDEX_MASK);
+  }
+
+  // 이 음절(두음법칙 포함) 뒤에 올 수 있는 단어 중 하나를 고르게 뽑는다.
+  public String randomMove(char syllable, RandomGenerator random) {
+    int count = continuationIndex.continuationCount(syllable);
+    char alternative = DueumRule.alternative(syllable);
+    int alternativeCount = alternative == 0 ? 0 : continuationIndex.continuationCount(alternative);
+    if (count + alternativeCount == 0) {
+      return null;
+    }
+    int pick = random.nextInt(count + alternativeCount);
+    char first = pick < count ? syllable : alternative;
+    int offset = pick < count ? pick : pick - count;
+    return dictionaryIndex.wordAt(HangulUtil.choseongIndex(first),
+        continuationIndex.firstIndex(first) + offset);
+  }
+
+  Solution compute(ForkJoinPool pool) {
+    int n = HangulUtil.SYLLABLE_COUNT;
+
+    // 1. 음절마다 갈 수 있는 끝 음절과 그 끝 음절로 가는 단어 하나를 모은다.
+    int[][] targets = new int[n][];
+    int[][] refs = new int[n][];
+    pool.invoke(new RangeTask(0, n, s -> collectMoves(s, targets, refs)));
+
+    // 2. 역방향 간선 (CSR)
+    int[] predecessorStart = new int[n + 1];
+    for (int[] successor : targets) {
+      for (int t : successor) {
+        predecessorStart[t + 1]++;
+      }
+    }
+    for (int i = 0; i < n; i++) {
+      predecessorStart[i + 1] += predecessorStart[i];
+    }
+    int[] predecessors = new int[predecessorStart[n]];
+    int[] fill = Arrays.copyOf(predecessorStart, n);
+    for (int s = 0; s < n; s++) {
+      for (int t : targets[s]) {
+        predecessors[fill[t]++] = s;
+      }
+    }
+
+    // 3. 단계별 후퇴 분석. 같은 단계의 노드는 서로 독립이라 병렬로 전파한다.
+    AtomicIntegerArray state = new AtomicIntegerArray(n);
+    AtomicIntegerArray remaining = new AtomicIntegerArray(n);
+    short[] depth = new short[n];
+    List<Integer> frontier = new ArrayList<>();
+    for (int s = 0; s < n; s++) {
+      remaining.set(s, targets[s].length);
+      if (targets[s].length == 0) {
+        state.set(s, Outcome.LOSS.ordinal());
+        frontier.add(s);
+      }
+    }
+
+    int level = 0;
+    while (!frontier.isEmpty()) {
+      int[] current = frontier.stream().mapToInt(Integer::intValue).toArray();
+      ConcurrentLinkedQueue<Integer> next = new ConcurrentLinkedQueue<>();
+      short nextDepth = (short) Math.min(level + 1, Short.MAX_VALUE);
+      pool.invoke(new RangeTask(0, current.length, i -> {
+        int t = current[i];
+        boolean losing = state.get(t) == Outcome.LOSS.ordinal();
+        for (int p = predecessorStart[t]; p < predecessorStart[t + 1]; p++) {
+          int s = predecessors[p];
+          if (losing) {
+            if (state.compareAndSet(s, Outcome.DRAW.ordinal(), Outcome.WIN.ordinal())) {
+              depth[s] = nextDepth;
+              next.add(s);
+            }
+          } else if (remaining.decrementAndGet(s) == 0
+              && state.compareAndSet(s, Outcome.DRAW.ordinal(), Outcome.LOSS.ordinal())) {
+            depth[s] = nextDepth;
+            next.add(s);
+          }
+        }
+      }));
+      frontier = new ArrayList<>(next);
+      level++;
+    }
+
+    // 4. 음절별 최선의 수
+    byte[] outcome = new byte[n];
+    int[] bestMove = new int[n];
+    pool.invoke(new RangeTask(0, n, s -> {
+      outcome[s] = (byte) state.get(s);
+      bestMove[s] = chooseMove(s, outcome, state, depth, targets[s], refs[s]);
+    }));
+    return new Solution(outcome, depth, bestMove);
+  }
+
+  private void collectMoves(int s, int[][] targets, int[][] refs) {
+    char syllable = (char) (HangulUtil.SYLLABLE_BASE + s);
+    char alternative = DueumRule.alternative(syllable);
+    int count = continuationIndex.continuationCount(syllable);
+    int alternativeCount = alternative == 0 ? 0 : continuationIndex.continuationCount(alternative);
+
+    // (끝 음절 << 32 | 단어 위치)를 정렬해 끝 음절마다 첫 단어 하나만 남긴다.
+    long[] keys = new long[count + alternativeCount];
+    int size = 0;
+    for (char first : new char[] {syllable, alternative}) {
+      int firstCount = first == syllable ? count : alternativeCount;
+      if (firstCount == 0) {
+        continue;
+      }
+      int bucket = HangulUtil.choseongIndex(first);
+      int from = continuationIndex.firstIndex(first);
+      for (int i = from; i < from + firstCount; i++) {
+        long target = dictionaryIndex.lastChar(bucket, i) - HangulUtil.SYLLABLE_BASE;
+        keys[size++] = target << 32 | ((long) bucket << INDEX_BITS | i);
+      }
+    }
+    Arrays.sort(keys, 0, size);
+
+    int[] target = new int[size];
+    int[] ref = new int[size];
+    int distinct = 0;
+    for (int i = 0; i < size; i++) {
+      int t = (int) (keys[i] >>> 32);
+      if (distinct > 0 && target[distinct - 1] == t) {
+        continue;
+      }
+      target[distinct] = t;
+      ref[distinct] = (int) keys[i];
+      distinct++;
+    }
+    targets[s] = Arrays.copyOf(target, distinct);
+    refs[s] = Arrays.copyOf(ref, distinct);
+  }
+
+  private static int chooseMove(int s, byte[] outcome, AtomicIntegerArray state, short[] depth,
+      int[] targets, int[] refs) {
+    int best = -1;
+    int bestDepth = 0;
+    for (int i = 0; i < targets.length; i++) {
+      int t = targets[i];
+      int result = state.get(t);
+      if (outcome[s] == Outcome.WIN.ordinal()) {
+        // 상대를 지는 자리로 보내는 수 중 가장 빨리 끝나는 것
+        if (result == Outcome.LOSS.ordinal() && (best < 0 || depth[t] < bestDepth)) {
+          best = refs[i];
+          bestDepth = depth[t];
+        }
+      } else if (outcome[s] == Outcome.LOSS.ordinal()) {
+        // 어차피 지면 가장 오래 버티는 수
+        if (best < 0 || depth[t] > bestDepth) {
+          best = refs[i];
+          bestDepth = depth[t];
+        }
+      } else if (result == Outcome.DRAW.ordinal()) {
+        return refs[i];
+      }
+    }
+    return best;
+  }
+
+  static Solution read(Path path, long revision) {
+    if (!Files.isRegularFile(path)) {
+      return null;
+    }
+    try {
+      ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+      int n = HangulUtil.SYLLABLE_COUNT;
+      if (buffer.limit() != HEADER_BYTES + bodyBytes(n) || buffer.getInt(0) != MAGIC
+          || buffer.getInt(4) != FORMAT_VERSION || buffer.getInt(16) != n) {
+        log.warn("Ignoring bot solution {}: unexpected format", path);
+        return null;
+      }
+      if (buffer.getLong(8) != revision) {
+        log.info("Ignoring stale bot solution {}: revision {} != {}", path, buffer.getLong(8),
+            revision);
+        return null;
+      }
+      if (buffer.getInt(20) != checksum(buffer.slice(HEADER_BYTES, bodyBytes(n)))) {
+        log.warn("Ignoring bot solution {}: checksum mismatch", path);
+        return null;
+      }
+
+      buffer.position(HEADER_BYTES);
+      byte[] outcome = new byte[n];
+      short[] depth = new short[n];
+      int[] bestMove = new int[n];
+      buffer.get(outcome);
+      buffer.asShortBuffer().get(depth);
+      buffer.position(buffer.position() + n * Short.BYTES);
+      buffer.asIntBuffer().get(bestMove);
+      return new Solution(outcome, depth, bestMove);
+    } catch (IOException e) {
+      log.warn("Failed to read bot solution {}", path, e);
+      return null;
+    }
+  }
+
+  static void write(Path path, Solution solution, long revision) {
+    int n = solution.outcome().length;
+    ByteBuffer body = ByteBuffer.allocate(bodyBytes(n));
+    body.put(solution.outcome());
+    body.asShortBuffer().put(solution.depth());
+    body.position(body.position() + n * Short.BYTES);
+    body.asIntBuffer().put(solution.bestMove());
+    body.clear();
+
+    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+    header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(revision).putInt(n)
+        .putInt(checksum(body.duplicate()));
+    header.flip();
+
+    try {
+      Path parent = path.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+      Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        while (header.hasRemaining()) {
+          channel.write(header);
+        }
+        while (body.hasRemaining()) {
+          channel.write(body);
+        }
+      }
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      log.info("Bot solution written to {}", path);
+    } catch (IOException e) {
+      log.warn("Failed to write bot solution {}", path, e);
+    }
+  }
+
+  private static int bodyBytes(int n) {
+    return n * (1 + Short.BYTES + Integer.BYTES);
+  }
+
+  private static int checksum(ByteBuffer body) {
+    CRC32C crc = new CRC32C();
+    crc.update(body);
+    return (int) crc.getValue();
+  }
+
+  record Solution(byte[] outcome, short[] depth, int[] bestMove) {
+
+  }
+
+  /**
+   * [from, to) 구간을 반씩 나눠 fork하고, 작은 구간은 바로 처리한다.
+   */
+  private static final class RangeTask extends RecursiveAction {
+
+    private final int from;
+    private final int to;
+    private final IntConsumer action;
+
+    RangeTask(int from, int to, IntConsumer action) {
+      this.from = from;
+      this.to = to;
+      this.action = action;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= SPLIT_THRESHOLD) {
+        for (int i = from; i < to; i++) {
+          action.accept(i);
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new RangeTask(from, middle, action), new RangeTask(middle, to, action));
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.wordrelay.server.dictionary;
+
+import com.wordrelay.server.service.RoomService;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 라운드가 끝났을 때 새 시작 단어를 뽑는다. 기동 시 끝 음절로 이어갈 단어가 있는 단어만 모아
+ * alias 테이블(Vose)을 만들어 두고, 뽑을 때는 DB 없이 O(1)로 고른다.
+ * weighted면 이어갈 단어가 많을수록 자주 뽑히고, 최근에 나온 단어는 recent-window 동안 다시 뽑지 않는다.
+ */
+@Slf4j
+@Component
+public class StartWordSampler {
+
+  private static final int MAX_ATTEMPTS = 16;
+  private static final int INDEX_BITS = 24;
+
+  private final DictionaryIndex dictionaryIndex;
+  private final ContinuationIndex continuationIndex;
+  private final boolean weighted;
+  private final int recentWindow;
+  private final RandomGenerator random;
+
+  // 최근 시작 단어. 뽑기는 라운드가 끝날 때만 일어나므로 한 락으로 충분하다.
+  private final ArrayDeque<Integer> recent = new ArrayDeque<>();
+  private final Set<Integer> recentSet = new HashSet<>();
+
+  private volatile Table table;
+
+  @Autowired
+  public StartWordSampler(DictionaryIndex dictionaryIndex, ContinuationIndex continuationIndex,
+      @Value("${game.start-word.weighted:true}") boolean weighted,
+      @Value("${game.start-word.recent-window:50}") int recentWindow) {
+    this(dictionaryIndex, continuationIndex, weighted, recentWindow, new SplittableRandom());
+  }
+
+  StartWordSampler(DictionaryIndex dictionaryIndex, ContinuationIndex continuationIndex,
+      boolean weighted, int recentWindow, RandomGenerator random) {
+    this.dictionaryIndex = dictionaryIndex;
+    this.continuationIndex = continuationIndex;
+    this.weighted = weighted;
+    this.recentWindow = Math.max(0, recentWindow);
+    this.random = random;
+  }
+
+  @PostConstruct
+  public void build() {
+    if (!continuationIndex.isAvailable()) {
+      return;
+    }
+
+    int total = 0;
+    for (int bucket = 0; bucket < dictionaryIndex.bucketCount(); bucket++) {
+      total += dictionaryIndex.bucketSize(bucket);
+    }
+
+    // 이어갈 수 있는 단어만 (버킷 << 24 | 위치)로 모은다.
+    int[] refs = new int[total];
+    double[] weights = new double[total];
+    int count = 0;
+    double sum = 0;
+    for (int bucket = 0; bucket < dictionaryIndex.bucketCount(); bucket++) {
+      int size = dictionaryIndex.bucketSize(bucket);
+      for (int i = 0; i < size; i++) {
+        int next = continuationIndex.nextWordCount(dictionaryIndex.lastChar(bucket, i));
+        if (next == 0) {
+          continue;
+        }
+        refs[count] = bucket << INDEX_BITS | i;
+        weights[count] = weighted ? next : 1;
+        sum += weights[count];
+        count++;
+      }
+    }
+    if (count == 0) {
+      log.warn("No playable start words, keeping the default start word");
+      return;
+    }
+
+    this.table = Table.of(refs, weights, count, sum);
+    log.info("Start word sampler built: {} playable words", count);
+  }
+
+  public boolean isAvailable() {
+    return table != null;
+  }
+
+  /**
+   * 새 시작 단어. 사전이 메모리에 없으면 기본 시작 단어를 돌려준다.
+   */
+  public String next() {
+    Table current = table;
+    if (current == null) {
+      return RoomService.START_WORD;
+    }
+
+    int ref;
+    synchronized (recent) {
+      ref = current.sample(random);
+      // 후보가 창 크기보다 적을 수 있으므로 시도 횟수를 제한한다.
+      for (int attempt = 1; attempt < MAX_ATTEMPTS && recentSet.contains(ref); attempt++) {
+        ref = current.sample(random);
+      }
+      remember(ref);
+    }
+    return dictionaryIndex.wordAt(ref >>> INDEX_BITS, ref & ((1 << INDEX_BITS) - 1));
+  }
+
+  private void remember(int ref) {
+    if (recentWindow == 0 || !recentSet.add(ref)) {
+      return;
+    }
+    recent.addLast(ref);
+    if (recent.size() > recentWindow) {
+      recentSet.remove(recent.removeFirst());
+    }
+  }
+
+  /**
+   * Vose의 alias 테이블. 칸 하나를 고르고, 그 칸의 확률로 자기 자신 아니면 alias를 돌려준다.
+   */
+  private record Table(int[] refs, float[] probability, int[] alias) {
+
+    static Table of(int[] refs, double[] weights, int count, double sum) {
+      float[] probability = new float[count];
+      int[] alias = new int[count];
+      double[] scaled = new double[count];
+      int[] small = new int[count];
+      int[] large = new int[count];
+      int smallSize = 0;
+      int largeSize = 0;
+      for (int i = 0; i < count; i++) {
+        scaled[i] = weights[i] * count / sum;
+        if (scaled[i] < 1) {
+          small[smallSize++] = i;
+        } else {
+          large[largeSize++] = i;
+        }
+      }
+      while (smallSize > 0 && largeSize > 0) {
+        int less = small[--smallSize];
+        int more = large[--largeSize];
+        probability[less] = (float) scaled[less];
+        alias[less] = more;
+        scaled[more] = scaled[more] + scaled[less] - 1;
+        if (scaled[more] < 1) {
+          small[smallSize++] = more;
+        } else {
+          large[largeSize++] = more;
+        }
+      }
+      // 남은 칸은 부동소수점 오차만 남은 것이라 확률 1로 둔다.
+      while (largeSize > 0) {
+        probability[large[--largeSize]] = 1;
+      }
+      while (smallSize > 0) {
+        probability[small[--smallSize]] = 1;
+      }
+
+      int[] trimmed = new int[count];
+      System.arraycopy(refs, 0, trimmed, 0, count);
+      return new Table(trimmed, probability, alias);
+    }
+
+    int sample(RandomGenerator random) {
+      int column = random.nextInt(refs.length);
+      return random.nextFloat() < probability[column] ? refs[column] : refs[alias[column]];
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.wordrelay.server.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class HintResponse {
+  private String currentWord;
+  private List<String> hints;
+
+}
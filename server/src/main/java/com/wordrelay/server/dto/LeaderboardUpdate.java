@@ -0,0 +1,14 @@
+package com.wordrelay.server.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 이전 방송 이후 순위나 점수가 바뀐 항목만 담는다. size보다 뒤의 순위는 지운다.
+@Data
+@AllArgsConstructor
+public class LeaderboardUpdate {
+  private List<RankingEntry> changed;
+  private int size;
+
+}
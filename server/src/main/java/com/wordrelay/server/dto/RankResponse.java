@@ -0,0 +1,13 @@
+package com.wordrelay.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RankResponse {
+  private int rank;
+  private long score;
+  private int total;
+
+}
@@ -0,0 +1,13 @@
+package com.wordrelay.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RankingEntry {
+  private int rank;
+  private String name;
+  private long score;
+
+}
@@ -0,0 +1,9 @@
+package com.wordrelay.server.dto;
+
+import lombok.Data;
+
+@Data
+public class RoomRequest {
+  private String browserId;
+
+}
@@ -0,0 +1,13 @@
+package com.wordrelay.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RoomResponse {
+  private String roomId;
+  private String currentWord;
+  private int memberCount;
+
+}
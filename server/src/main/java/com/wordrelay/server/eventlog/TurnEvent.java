@@ -0,0 +1,166 @@
+package com.wordrelay.server.eventlog;
+
+import com.wordrelay.server.common.exception.ErrorCode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * 턴 하나의 처리 결과. errorCode가 null이면 받아들여진 턴이다.
+ *
+ * <pre>
+ * record: length(int) crc32c(int) payload
+ * payload: timestamp(long) outcome(byte) score(int) roomId browserId word nextWord [errorCode]
+ * string: length(short) UTF-8 bytes
+ * </pre>
+ * outcome은 0이 성공, {@link #NAMED_ERROR}면 뒤에 ErrorCode 이름이 문자열로 붙는다. 상수를 추가하거나
+ * 순서를 바꿔도 기록이 바뀌지 않도록 이름으로 남긴다. 1..17은 이전 형식(순번 + 1)이며 그때의 순서로 읽는다.
+ */
+public record TurnEvent(long timestamp, String roomId, String browserId, String word,
+    String nextWord, int score, ErrorCode errorCode) {
+
+  static final int RECORD_HEADER_BYTES = 8;
+  // browserId 등은 클라이언트가 보내는 값이라 길이를 자른다.
+  private static final int MAX_STRING_BYTES = 1024;
+  static final byte NAMED_ERROR = 0x7F;
+  // 이전 형식이 쓰던 순번. 당시 ErrorCode 선언 순서이며 바꾸면 안 된다.
+  private static final String[] LEGACY_ERROR_CODES = {
+      "INVALID_WORD", "NOT_FOLLOWING_RULES", "WORD_ALREADY_USED", "WORD_ALREADY_ANSWERED",
+      "WORD_TOO_SHORT", "NOT_A_REAL_WORD", "GAME_NOT_STARTED", "GAME_ALREADY_ENDED",
+      "ROOM_NOT_FOUND", "INVALID_ROOM_ID", "PLAYER_NOT_FOUND", "UNAUTHORIZED_MOVE",
+      "TOO_MANY_REQUESTS", "SERVER_ERROR", "BROWSER_ID_MISSING", "USER_NOT_FOUND",
+      "INVALID_TABLE_NAME"};
+
+  public static TurnEvent accepted(String roomId, String browserId, String word, String nextWord,
+      int score) {
+    return new TurnEvent(System.currentTimeMillis(), roomId, browserId, word, nextWord, score,
+        null);
+  }
+
+  public static TurnEvent rejected(String roomId, String browserId, String word,
+      ErrorCode errorCode) {
+    return new TurnEvent(System.currentTimeMillis(), roomId, browserId, word, null, 0, errorCode);
+  }
+
+  public boolean isAccepted() {
+    return errorCode == null;
+  }
+
+  // 라운드가 이어지면 nextWord가 낸 단어와 같고, 한방단어로 끝나면 새 시작 단어다.
+  public boolean endsRound() {
+    return isAccepted() && !word.equals(nextWord);
+  }
+
+  /**
+   * target에 레코드 하나를 쓴다. 자리가 모자라면 아무것도 쓰지 않고 false를 돌려준다.
+   */
+  boolean encode(ByteBuffer target) {
+    byte[] room = bytes(roomId);
+    byte[] browser = bytes(browserId);
+    byte[] played = bytes(word);
+    byte[] next = bytes(nextWord);
+    byte[] error = errorCode == null ? null : bytes(errorCode.name());
+    int payload = Long.BYTES + 1 + Integer.BYTES
+        + 4 * Short.BYTES + room.length + browser.length + played.length + next.length
+        + (error == null ? 0 : Short.BYTES + error.length);
+    if (target.remaining() < RECORD_HEADER_BYTES + payload) {
+      return false;
+    }
+
+    int start = target.position();
+    target.putInt(payload).putInt(0);
+    target.putLong(timestamp)
+        .put(errorCode == null ? 0 : NAMED_ERROR)
+        .putInt(score);
+    put(target, room);
+    put(target, browser);
+    put(target, played);
+    put(target, next);
+    if (error != null) {
+      put(target, error);
+    }
+
+    CRC32C crc = new CRC32C();
+    crc.update(target.slice(start + RECORD_HEADER_BYTES, payload));
+    target.putInt(start + Integer.BYTES, (int) crc.getValue());
+    return true;
+  }
+
+  /**
+   * source의 현재 위치에서 레코드 하나를 읽는다. 잘렸거나 체크섬이 맞지 않으면 null이고 위치는 그대로다.
+   */
+  static TurnEvent decode(ByteBuffer source) {
+    int start = source.position();
+    if (source.remaining() < RECORD_HEADER_BYTES) {
+      return null;
+    }
+    int payload = source.getInt(start);
+    if (payload <= 0 || source.remaining() < RECORD_HEADER_BYTES + payload) {
+      return null;
+    }
+    CRC32C crc = new CRC32C();
+    crc.update(source.slice(start + RECORD_HEADER_BYTES, payload));
+    if ((int) crc.getValue() != source.getInt(start + Integer.BYTES)) {
+      return null;
+    }
+
+    ByteBuffer body = source.slice(start + RECORD_HEADER_BYTES, payload);
+    long timestamp = body.getLong();
+    int outcome = body.get();
+    int score = body.getInt();
+    String roomId = string(body);
+    String browserId = string(body);
+    String word = string(body);
+    String nextWord = string(body);
+    String errorName = outcome == NAMED_ERROR ? string(body)
+        : outcome > 0 && outcome <= LEGACY_ERROR_CODES.length ? LEGACY_ERROR_CODES[outcome - 1]
+        : null;
+    source.position(start + RECORD_HEADER_BYTES + payload);
+
+    ErrorCode errorCode = outcome == 0 ? null : errorCodeOf(errorName);
+    return new TurnEvent(timestamp, roomId, browserId, word, nextWord, score, errorCode);
+  }
+
+  // 이 버전에 없는 이름이면 SERVER_ERROR로 읽는다.
+  private static ErrorCode errorCodeOf(String name) {
+    if (name != null) {
+      for (ErrorCode errorCode : ErrorCode.values()) {
+        if (errorCode.name().equals(name)) {
+          return errorCode;
+        }
+      }
+    }
+    return ErrorCode.SERVER_ERROR;
+  }
+
+  private static byte[] bytes(String value) {
+    if (value == null) {
+      return new byte[0];
+    }
+    byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+    if (encoded.length <= MAX_STRING_BYTES) {
+      return encoded;
+    }
+    // 문자 중간에서 자르지 않도록 잘린 자리가 연속 바이트(10xxxxxx)면 문자의 첫 바이트까지 물러난다.
+    int end = MAX_STRING_BYTES;
+    while (end > 0 && (encoded[end] & 0xC0) == 0x80) {
+      end--;
+    }
+    return Arrays.copyOf(encoded, end);
+  }
+
+  private static void put(ByteBuffer target, byte[] value) {
+    target.putShort((short) value.length).put(value);
+  }
+
+  private static String string(ByteBuffer source) {
+    int length = Short.toUnsignedInt(source.getShort());
+    if (length == 0) {
+      return null;
+    }
+    byte[] value = new byte[length];
+    source.get(value);
+    return new String(value, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,314 @@
+package com.wordrelay.server.eventlog;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 턴 결과를 로컬 디스크의 추가 전용 세그먼트 파일에 남긴다.
+ * 요청 스레드는 링 버퍼 칸 하나를 CAS로 잡아 이벤트를 넣기만 하고, 인코딩/쓰기/fsync는
+ * 단일 writer 스레드가 모아서 한 번에 처리한다(group commit). 버퍼가 가득 차면 기다리지 않고 버린다.
+ */
+@Slf4j
+@Component
+public class TurnEventLog {
+
+  public enum FsyncPolicy {
+    ALWAYS, INTERVAL, NEVER
+  }
+
+  static final String SEGMENT_PREFIX = "turns-";
+  static final String SEGMENT_SUFFIX = ".log";
+  private static final int WRITE_BUFFER_BYTES = 1 << 20;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final boolean enabled;
+  private final Path directory;
+  private final long segmentBytes;
+  private final FsyncPolicy fsyncPolicy;
+  private final long fsyncIntervalNanos;
+
+  private final AtomicReferenceArray<TurnEvent> ring;
+  private final int mask;
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+  // running을 확인하고 칸을 채우는 중인 append 수. writer는 이것이 0이 될 때까지 끝나지 않는다.
+  private final AtomicInteger appending = new AtomicInteger();
+
+  private final LongAdder appended = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder writtenBytes = new LongAdder();
+
+  // 아래 필드는 writer 스레드만 건드린다.
+  private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+  private FileChannel channel;
+  private long segmentIndex;
+  private long segmentSize;
+  private long lastFsyncAt;
+  private boolean dirty;
+
+  private volatile boolean running;
+  private Thread writer;
+
+  public TurnEventLog(@Value("${game.event-log.enabled:false}") boolean enabled,
+      @Value("${game.event-log.directory:turn-log}") String directory,
+      @Value("${game.event-log.segment-size:67108864}") long segmentBytes,
+      @Value("${game.event-log.ring-size:65536}") int ringSize,
+      @Value("${game.event-log.fsync:INTERVAL}") FsyncPolicy fsyncPolicy,
+      @Value("${game.event-log.fsync-interval:1000}") long fsyncIntervalMillis) {
+    this.enabled = enabled;
+    this.directory = Path.of(directory);
+    this.segmentBytes = segmentBytes;
+    this.fsyncPolicy = fsyncPolicy;
+    this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+    int capacity = Integer.highestOneBit(Math.max(2, ringSize) * 2 - 1);
+    this.ring = new AtomicReferenceArray<>(capacity);
+    this.mask = capacity - 1;
+  }
+
+  public static TurnEventLog disabled() {
+    return new TurnEventLog(false, "", 0, 2, FsyncPolicy.NEVER, 0);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      Files.createDirectories(directory);
+      // 이전 프로세스가 쓰던 세그먼트는 끝이 잘렸을 수 있으므로 이어 쓰지 않고 새 세그먼트로 시작한다.
+      segmentIndex = TurnLogReader.segments(directory).stream()
+          .mapToLong(TurnLogReader::segmentIndex)
+          .max()
+          .orElse(0);
+      openNextSegment();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to open turn log in " + directory, e);
+    }
+
+    running = true;
+    writer = new Thread(this::runWriter, "turn-log-writer");
+    writer.setDaemon(true);
+    writer.start();
+    log.info("Turn event log writing to {} (fsync={})", directory, fsyncPolicy);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 이벤트를 링 버퍼에 넣는다. 요청 스레드에서 호출되며 막히지 않는다.
+   */
+  public boolean append(TurnEvent event) {
+    // running보다 먼저 올려 두므로, 종료 중인 writer는 이 append가 칸을 채울 때까지 기다린다.
+    appending.incrementAndGet();
+    try {
+      if (!running) {
+        return false;
+      }
+      while (true) {
+        long claimed = tail.get();
+        if (claimed - head.get() > mask) {
+          dropped.increment();
+          return false;
+        }
+        if (tail.compareAndSet(claimed, claimed + 1)) {
+          ring.lazySet((int) (claimed & mask), event);
+          appended.increment();
+          return true;
+        }
+      }
+    } finally {
+      appending.decrementAndGet();
+    }
+  }
+
+  public long getAppendedCount() {
+    return appended.sum();
+  }
+
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  public long getWrittenBytes() {
+    return writtenBytes.sum();
+  }
+
+  public long getPendingCount() {
+    return tail.get() - head.get();
+  }
+
+  private void runWriter() {
+    lastFsyncAt = System.nanoTime();
+    while (running || appending.get() > 0 || head.get() < tail.get()) {
+      try {
+        int drained = drain();
+        // 쉬지 않고 들어오는 동안에도 INTERVAL fsync가 돌도록 매번 확인한다.
+        syncIfDue();
+        if (drained == 0) {
+          LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+      } catch (IOException e) {
+        log.error("Turn log write failed", e);
+        LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+      }
+    }
+  }
+
+  // 링 버퍼에 쌓인 이벤트를 쓰기 버퍼에 모아 한 번에 쓴다.
+  int drain() throws IOException {
+    int count = 0;
+    long position = head.get();
+    while (true) {
+      int slot = (int) (position & mask);
+      TurnEvent event = ring.get(slot);
+      if (event == null) {
+        // 칸을 잡았지만 아직 채우지 않은 생산자가 있으면 다음 번에 읽는다.
+        break;
+      }
+      if (!event.encode(writeBuffer)) {
+        if (writeBuffer.position() == 0) {
+          log.warn("Dropping oversized turn event: room={}", event.roomId());
+          dropped.increment();
+        } else {
+          flush();
+          continue;
+        }
+      }
+      ring.lazySet(slot, null);
+      position++;
+      head.lazySet(position);
+      count++;
+    }
+    if (count > 0) {
+      flush();
+      if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+        sync();
+      }
+    }
+    return count;
+  }
+
+  private void flush() throws IOException {
+    writeBuffer.flip();
+    int bytes = writeBuffer.remaining();
+    try {
+      while (writeBuffer.hasRemaining()) {
+        channel.write(writeBuffer);
+      }
+    } catch (IOException e) {
+      recoverFailedWrite(e);
+      throw e;
+    }
+    writeBuffer.clear();
+    writtenBytes.add(bytes);
+    segmentSize += bytes;
+    dirty = true;
+    if (segmentSize >= segmentBytes) {
+      sync();
+      channel.close();
+      openNextSegment();
+    }
+  }
+
+  /**
+   * 쓰기가 중간에 실패하면 세그먼트 끝에 잘린 레코드가 남을 수 있고, 읽는 쪽은 거기서 그 세그먼트를 끝낸다.
+   * 그래서 온전히 쓰인 레코드까지만 쓴 것으로 치고, 나머지는 버퍼 앞으로 옮겨 새 세그먼트에 다시 쓴다.
+   */
+  private void recoverFailedWrite(IOException cause) {
+    int written = writeBuffer.position();
+    int complete = 0;
+    while (complete + TurnEvent.RECORD_HEADER_BYTES <= written) {
+      int record = TurnEvent.RECORD_HEADER_BYTES + writeBuffer.getInt(complete);
+      if (complete + record > written) {
+        break;
+      }
+      complete += record;
+    }
+    writeBuffer.position(complete);
+    writeBuffer.compact();
+    writtenBytes.add(complete);
+    dirty |= complete > 0;
+
+    try {
+      sync();
+    } catch (IOException e) {
+      cause.addSuppressed(e);
+    }
+    try {
+      channel.close();
+    } catch (IOException e) {
+      cause.addSuppressed(e);
+    }
+    try {
+      openNextSegment();
+    } catch (IOException e) {
+      // 다음 flush도 닫힌 채널에서 실패하므로 여기로 다시 와서 새 세그먼트를 연다.
+      cause.addSuppressed(e);
+    }
+  }
+
+  private void syncIfDue() throws IOException {
+    if (fsyncPolicy == FsyncPolicy.INTERVAL && dirty
+        && System.nanoTime() - lastFsyncAt >= fsyncIntervalNanos) {
+      sync();
+    }
+  }
+
+  private void sync() throws IOException {
+    if (dirty && fsyncPolicy != FsyncPolicy.NEVER) {
+      channel.force(false);
+    }
+    dirty = false;
+    lastFsyncAt = System.nanoTime();
+  }
+
+  private void openNextSegment() throws IOException {
+    segmentIndex++;
+    channel = FileChannel.open(TurnLogReader.segmentPath(directory, segmentIndex),
+        StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    segmentSize = 0;
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    try {
+      writer.join(TimeUnit.SECONDS.toMillis(5));
+      if (writer.isAlive()) {
+        // writer 전용 상태를 두 스레드가 함께 건드리지 않도록 닫지 않고 writer에게 맡긴다.
+        log.warn("Turn log writer did not stop in time, {} events still pending",
+            getPendingCount());
+        return;
+      }
+      dirty = true;
+      sync();
+      channel.close();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException e) {
+      log.warn("Failed to close turn log", e);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.wordrelay.server.eventlog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 턴 로그 세그먼트를 순서대로 읽는다. 세그먼트 끝의 잘리거나 깨진 레코드는 비정상 종료의 흔적으로 보고
+ * 그 세그먼트의 나머지를 건너뛴다.
+ */
+@Slf4j
+public final class TurnLogReader {
+
+  private TurnLogReader() {
+  }
+
+  public static long read(Path directory, Consumer<TurnEvent> consumer) throws IOException {
+    long count = 0;
+    for (Path segment : segments(directory)) {
+      try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        while (buffer.hasRemaining()) {
+          TurnEvent event = TurnEvent.decode(buffer);
+          if (event == null) {
+            log.warn("Truncated turn log record in {} at offset {}, skipping the rest",
+                segment, buffer.position());
+            break;
+          }
+          consumer.accept(event);
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  static List<Path> segments(Path directory) throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return List.of();
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .filter(path -> segmentIndex(path) > 0)
+          .sorted((a, b) -> Long.compare(segmentIndex(a), segmentIndex(b)))
+          .toList();
+    }
+  }
+
+  static Path segmentPath(Path directory, long index) {
+    return directory.resolve(String.format("%s%012d%s", TurnEventLog.SEGMENT_PREFIX, index,
+        TurnEventLog.SEGMENT_SUFFIX));
+  }
+
+  static long segmentIndex(Path path) {
+    String name = path.getFileName().toString();
+    if (!name.startsWith(TurnEventLog.SEGMENT_PREFIX)
+        || !name.endsWith(TurnEventLog.SEGMENT_SUFFIX)) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(name.substring(TurnEventLog.SEGMENT_PREFIX.length(),
+          name.length() - TurnEventLog.SEGMENT_SUFFIX.length()));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.wordrelay.server.eventlog;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 턴 로그를 처음부터 다시 적용해 방별 현재 단어/사용 단어와 사용자별 점수를 복원한다.
+ * 받아들여진 턴만 상태를 바꾸고, 거절된 턴은 건수만 센다.
+ *
+ * <p>실행: ./gradlew replayTurnLog -PturnLogDir=turn-log
+ */
+public class TurnLogReplay {
+
+  private final Map<String, RoomState> rooms = new HashMap<>();
+  private final Map<String, Long> scores = new HashMap<>();
+  private long accepted;
+  private long rejected;
+
+  public static TurnLogReplay replay(Path directory) throws IOException {
+    TurnLogReplay replay = new TurnLogReplay();
+    TurnLogReader.read(directory, replay::apply);
+    return replay;
+  }
+
+  public void apply(TurnEvent event) {
+    if (!event.isAccepted()) {
+      rejected++;
+      return;
+    }
+    accepted++;
+
+    RoomState room = rooms.computeIfAbsent(event.roomId(), id -> new RoomState());
+    room.currentWord = event.nextWord();
+    if (event.endsRound()) {
+      room.usedWords.clear();
+    } else {
+      room.usedWords.add(event.word());
+    }
+    if (event.score() > 0 && event.browserId() != null) {
+      scores.merge(event.browserId(), (long) event.score(), Long::sum);
+    }
+  }
+
+  public String currentWord(String roomId) {
+    RoomState room = rooms.get(roomId);
+    return room == null ? null : room.currentWord;
+  }
+
+  public Set<String> usedWords(String roomId) {
+    RoomState room = rooms.get(roomId);
+    return room == null ? Set.of() : Set.copyOf(room.usedWords);
+  }
+
+  public Map<String, Long> getScores() {
+    return Map.copyOf(scores);
+  }
+
+  public long getAcceptedCount() {
+    return accepted;
+  }
+
+  public long getRejectedCount() {
+    return rejected;
+  }
+
+  private static final class RoomState {
+
+    private String currentWord;
+    private final Set<String> usedWords = new LinkedHashSet<>();
+  }
+
+  public static void main(String[] args) throws IOException {
+    Path directory = Path.of(args.length > 0 ? args[0] : "turn-log");
+    TurnLogReplay replay = replay(directory);
+
+    System.out.printf("turns: accepted=%d, rejected=%d%n", replay.accepted, replay.rejected);
+    replay.rooms.forEach((roomId, room) -> System.out.printf("room %s: currentWord=%s, used=%d%n",
+        roomId, room.currentWord, room.usedWords.size()));
+    replay.scores.entrySet().stream()
+        .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+        .limit(20)
+        .forEach(entry -> System.out.printf("score %s: %d%n", entry.getKey(), entry.getValue()));
+  }
+}
@@ -1,5 +1,6 @@
 package com.wordrelay.server.mapper;
 
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 
 @Mapper
@@ -7,5 +8,7 @@ public interface AdjectivesMapper {
 
   String selectAdjective(int id);
 
+  List<String> selectAllAdjectives();
+
 
 }
@@ -1,5 +1,6 @@
 package com.wordrelay.server.mapper;
 
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 
 @Mapper
@@ -7,4 +8,6 @@ public interface AnimalsMapper {
 
     String selectAnimal(int id);
 
+    List<String> selectAllAnimals();
+
 }
@@ -1,13 +1,23 @@
 package com.wordrelay.server.mapper;
 
 import com.wordrelay.server.model.Word;
+import java.util.Collection;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface WordMapper {
-  Boolean selectWord(@Param("tableName") String tableName, @Param("word") String word);
+  Boolean selectWord(@Param("word") String word);
 
-  Word getWord(@Param("tableName") String tableName, @Param("word") String word);
+  Word getWord(@Param("word") String word);
+
+  // 여러 후보 단어를 한 번의 왕복으로 조회한다. 없는 단어는 결과에서 빠진다.
+  List<Word> getWords(@Param("words") Collection<String> words);
+
+  List<Word> getAllWords(@Param("choseong") int choseong);
+
+  // 사전 스냅샷이 현재 테이블과 같은지 비교하는 값. 단어 수와 (word, winning_word) 체크섬을 합친다.
+  long selectRevision();
 
 }
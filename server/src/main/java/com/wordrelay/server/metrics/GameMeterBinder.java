@@ -0,0 +1,172 @@
+package com.wordrelay.server.metrics;
+
+import com.wordrelay.server.dictionary.DictionaryIndex;
+import com.wordrelay.server.eventlog.TurnEventLog;
+import com.wordrelay.server.service.CurrentWordCache;
+import com.wordrelay.server.service.LeaderboardService;
+import com.wordrelay.server.service.RoomService;
+import com.wordrelay.server.service.ScoreBuffer;
+import com.wordrelay.server.service.SubmissionRateLimiter;
+import com.wordrelay.server.service.UsedWordRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.ToDoubleFunction;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * 이미 각 컴포넌트가 들고 있는 카운터를 읽기만 하는 게이지/함수 카운터를 등록한다.
+ * 값은 스크랩할 때만 계산되므로 요청 처리 경로에는 비용이 없다.
+ */
+@Component
+public class GameMeterBinder implements MeterBinder {
+
+  private final DictionaryIndex dictionaryIndex;
+  private final UsedWordRegistry usedWordRegistry;
+  private final LeaderboardService leaderboardService;
+  private final ScoreBuffer scoreBuffer;
+  private final RoomService roomService;
+  private final SubmissionRateLimiter submissionRateLimiter;
+  private final TurnEventLog turnEventLog;
+  private final CurrentWordCache currentWordCache;
+  private final ObjectProvider<Executor> clientInboundChannelExecutor;
+  private final ObjectProvider<Executor> clientOutboundChannelExecutor;
+
+  // SessionDisconnectEvent는 한 세션에 여러 번 올 수 있어 개수 대신 id로 센다.
+  private final Set<String> connectedSessions = ConcurrentHashMap.newKeySet();
+
+  public GameMeterBinder(DictionaryIndex dictionaryIndex, UsedWordRegistry usedWordRegistry,
+      LeaderboardService leaderboardService, ScoreBuffer scoreBuffer, RoomService roomService,
+      SubmissionRateLimiter submissionRateLimiter, TurnEventLog turnEventLog,
+      CurrentWordCache currentWordCache,
+      @Qualifier("clientInboundChannelExecutor") ObjectProvider<Executor> clientInboundChannelExecutor,
+      @Qualifier("clientOutboundChannelExecutor") ObjectProvider<Executor> clientOutboundChannelExecutor) {
+    this.dictionaryIndex = dictionaryIndex;
+    this.usedWordRegistry = usedWordRegistry;
+    this.leaderboardService = leaderboardService;
+    this.scoreBuffer = scoreBuffer;
+    this.roomService = roomService;
+    this.submissionRateLimiter = submissionRateLimiter;
+    this.turnEventLog = turnEventLog;
+    this.currentWordCache = currentWordCache;
+    this.clientInboundChannelExecutor = clientInboundChannelExecutor;
+    this.clientOutboundChannelExecutor = clientOutboundChannelExecutor;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("wordrelay.websocket.sessions", connectedSessions, Set::size)
+        .description("STOMP로 연결된 세션 수")
+        .register(registry);
+    Gauge.builder("wordrelay.broker.queue", clientInboundChannelExecutor, GameMeterBinder::queueSize)
+        .tag("channel", "inbound")
+        .register(registry);
+    Gauge.builder("wordrelay.broker.queue", clientOutboundChannelExecutor, GameMeterBinder::queueSize)
+        .tag("channel", "outbound")
+        .register(registry);
+    Gauge.builder("wordrelay.rooms", roomService, RoomService::getRoomCount)
+        .register(registry);
+    Gauge.builder("wordrelay.score.buffer.pending", scoreBuffer, ScoreBuffer::pendingSize)
+        .register(registry);
+
+    // 사전 인덱스는 사전 전체를 들고 있어 캐시가 아니다. 적중률 대신 찾은/없는 단어 수만 센다.
+    FunctionCounter.builder("wordrelay.dictionary.lookups", dictionaryIndex,
+            DictionaryIndex::getFoundCount)
+        .tag("result", "found")
+        .register(registry);
+    FunctionCounter.builder("wordrelay.dictionary.lookups", dictionaryIndex,
+            DictionaryIndex::getNotFoundCount)
+        .tag("result", "not_found")
+        .register(registry);
+    // 사용 단어 필터: Redis까지 가지 않고 필터에서 끝난 조회를 hit로 본다.
+    cache(registry, "used_words", usedWordRegistry,
+        used -> used.getLookupCount() - used.getFilterPositiveCount(),
+        UsedWordRegistry::getFilterPositiveCount);
+    cache(registry, "nickname", leaderboardService,
+        LeaderboardService::getNicknameHitCount, LeaderboardService::getNicknameMissCount);
+    cache(registry, "current_word", currentWordCache,
+        CurrentWordCache::getHitCount, CurrentWordCache::getMissCount);
+    Gauge.builder("wordrelay.current_word.waiters", currentWordCache,
+            CurrentWordCache::getWaiterCount)
+        .description("현재 단어 변경을 기다리는 long-poll 요청 수")
+        .register(registry);
+    Gauge.builder("wordrelay.used_words.false_positive_rate", usedWordRegistry,
+            UsedWordRegistry::getObservedFalsePositiveRate)
+        .register(registry);
+
+    rateLimit(registry, "allowed", SubmissionRateLimiter::getAllowedCount);
+    rateLimit(registry, "throttled", SubmissionRateLimiter::getThrottledCount);
+    rateLimit(registry, "rejected_by_capacity", SubmissionRateLimiter::getRejectedByCapacityCount);
+    Gauge.builder("wordrelay.ratelimit.keys", submissionRateLimiter,
+            SubmissionRateLimiter::getTrackedKeys)
+        .register(registry);
+
+    FunctionCounter.builder("wordrelay.eventlog.events", turnEventLog,
+            TurnEventLog::getAppendedCount)
+        .tag("result", "appended")
+        .register(registry);
+    FunctionCounter.builder("wordrelay.eventlog.events", turnEventLog,
+            TurnEventLog::getDroppedCount)
+        .tag("result", "dropped")
+        .register(registry);
+    FunctionCounter.builder("wordrelay.eventlog.written", turnEventLog,
+            TurnEventLog::getWrittenBytes)
+        .baseUnit("bytes")
+        .register(registry);
+    Gauge.builder("wordrelay.eventlog.pending", turnEventLog, TurnEventLog::getPendingCount)
+        .register(registry);
+  }
+
+  @EventListener
+  public void onConnected(SessionConnectedEvent event) {
+    String sessionId = (String) event.getMessage().getHeaders().get("simpSessionId");
+    if (sessionId != null) {
+      connectedSessions.add(sessionId);
+    }
+  }
+
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    connectedSessions.remove(event.getSessionId());
+  }
+
+  private static <T> void cache(MeterRegistry registry, String name, T source,
+      ToDoubleFunction<T> hits, ToDoubleFunction<T> misses) {
+    FunctionCounter.builder("wordrelay.cache.requests", source, hits)
+        .tags("cache", name, "result", "hit")
+        .register(registry);
+    FunctionCounter.builder("wordrelay.cache.requests", source, misses)
+        .tags("cache", name, "result", "miss")
+        .register(registry);
+    Gauge.builder("wordrelay.cache.hit.ratio", source, value -> {
+          double hit = hits.applyAsDouble(value);
+          double total = hit + misses.applyAsDouble(value);
+          return total == 0 ? 0 : hit / total;
+        })
+        .tag("cache", name)
+        .register(registry);
+  }
+
+  private void rateLimit(MeterRegistry registry, String result,
+      ToDoubleFunction<SubmissionRateLimiter> count) {
+    FunctionCounter.builder("wordrelay.ratelimit.requests", submissionRateLimiter, count)
+        .tag("result", result)
+        .register(registry);
+  }
+
+  // 가상 스레드 실행기는 대기열이 없으므로 0으로 본다.
+  private static double queueSize(ObjectProvider<Executor> provider) {
+    return provider.getIfAvailable() instanceof ThreadPoolTaskExecutor executor
+        ? executor.getThreadPoolExecutor().getQueue().size() : 0;
+  }
+}
@@ -0,0 +1,77 @@
+package com.wordrelay.server.metrics;
+
+import com.wordrelay.server.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 턴 처리 단계별 타이머와 결과 카운터. 모든 미터는 생성 시 미리 등록해 두고,
+ * 기록할 때는 System.nanoTime() 차이만 넘겨서 이벤트마다 객체를 만들지 않는다.
+ */
+@Component
+public class GameMetrics {
+
+  public enum Stage {
+    REDIS_GET("redis_get"),
+    DICTIONARY_LOOKUP("dictionary_lookup"),
+    USED_WORD_CHECK("used_word_check"),
+    COMMIT("commit"),
+    SCORE_UPDATE("score_update"),
+    BROADCAST("broadcast");
+
+    private final String tag;
+
+    Stage(String tag) {
+      this.tag = tag;
+    }
+  }
+
+  private final Timer[] stageTimers = new Timer[Stage.values().length];
+  private final Timer turnTimer;
+  private final Counter acceptedCounter;
+  private final Map<ErrorCode, Counter> rejectedCounters = new EnumMap<>(ErrorCode.class);
+
+  public GameMetrics(MeterRegistry registry) {
+    for (Stage stage : Stage.values()) {
+      stageTimers[stage.ordinal()] = Timer.builder("wordrelay.turn.stage")
+          .description("단어 제출 처리 단계별 소요 시간")
+          .tag("stage", stage.tag)
+          .publishPercentileHistogram()
+          .register(registry);
+    }
+    turnTimer = Timer.builder("wordrelay.turn")
+        .description("단어 제출 한 건의 전체 처리 시간")
+        .publishPercentileHistogram()
+        .register(registry);
+
+    acceptedCounter = Counter.builder("wordrelay.turn.outcome")
+        .tag("outcome", "ACCEPTED")
+        .register(registry);
+    for (ErrorCode errorCode : ErrorCode.values()) {
+      rejectedCounters.put(errorCode, Counter.builder("wordrelay.turn.outcome")
+          .tag("outcome", errorCode.name())
+          .register(registry));
+    }
+  }
+
+  public void record(Stage stage, long startNanos) {
+    stageTimers[stage.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordTurn(long startNanos) {
+    turnTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void accepted() {
+    acceptedCounter.increment();
+  }
+
+  public void rejected(ErrorCode errorCode) {
+    rejectedCounters.get(errorCode).increment();
+  }
+}
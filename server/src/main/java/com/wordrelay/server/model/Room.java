@@ -0,0 +1,90 @@
+package com.wordrelay.server.model;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+
+@Getter
+public class Room {
+
+  public static final String DEFAULT_ROOM_ID = "lobby";
+
+  private final String roomId;
+  private final String currentWordKey;
+  private final String usedWordsKey;
+  private final String destinationPrefix;
+  // 봇과 1:1로 두는 방. 방을 만든 노드만 알고 있다.
+  private final boolean botOpponent;
+  // browserId별 참여 횟수. 같은 브라우저가 탭을 여러 개 열면 마지막 세션이 끊길 때 빠진다.
+  private final Map<String, Integer> members = new ConcurrentHashMap<>();
+  private volatile long lastActiveAt;
+
+  private Room(String roomId, String currentWordKey, String usedWordsKey,
+      String destinationPrefix, boolean botOpponent) {
+    this.roomId = roomId;
+    this.currentWordKey = currentWordKey;
+    this.usedWordsKey = usedWordsKey;
+    this.destinationPrefix = destinationPrefix;
+    this.botOpponent = botOpponent;
+    this.lastActiveAt = System.currentTimeMillis();
+  }
+
+  // 기본 방은 기존 키와 구독 경로를 그대로 사용한다.
+  public static Room lobby() {
+    return new Room(DEFAULT_ROOM_ID, "currentWord", "usedWords", "/game", false);
+  }
+
+  // 방마다 해시 태그로 묶인 별도 키를 사용한다.
+  public static Room of(String roomId) {
+    return of(roomId, false);
+  }
+
+  public static Room of(String roomId, boolean botOpponent) {
+    String prefix = "room:{" + roomId + "}:";
+    return new Room(roomId, prefix + "currentWord", prefix + "usedWords", "/game/" + roomId,
+        botOpponent);
+  }
+
+  // 현재 단어가 바뀔 때마다 1씩 오르는 카운터. 노드별 캐시와 ETag가 이 값을 쓴다.
+  public String getCurrentWordVersionKey() {
+    return currentWordKey + ":version";
+  }
+
+  public boolean isDefault() {
+    return DEFAULT_ROOM_ID.equals(roomId);
+  }
+
+  public String destination(String name) {
+    return destinationPrefix + "/" + name;
+  }
+
+  public Set<String> getMembers() {
+    return Collections.unmodifiableSet(members.keySet());
+  }
+
+  public void join(String browserId) {
+    members.merge(browserId, 1, Integer::sum);
+    touch();
+  }
+
+  // 명시적으로 나가면 남은 세션과 상관없이 뺀다.
+  public void leave(String browserId) {
+    members.remove(browserId);
+    touch();
+  }
+
+  // 세션 하나가 끊겼을 때. 같은 브라우저의 다른 세션이 남아 있으면 멤버로 둔다.
+  public void disconnect(String browserId) {
+    members.computeIfPresent(browserId, (key, count) -> count > 1 ? count - 1 : null);
+  }
+
+  public void touch() {
+    lastActiveAt = System.currentTimeMillis();
+  }
+
+  public boolean isIdle(long now, long idleMillis) {
+    return !isDefault() && now - lastActiveAt > idleMillis;
+  }
+}
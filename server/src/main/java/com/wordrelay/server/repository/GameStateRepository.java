@@ -0,0 +1,50 @@
+package com.wordrelay.server.repository;
+
+import com.wordrelay.server.model.Room;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public interface GameStateRepository {
+
+  String getCurrentWord(Room room);
+
+  // 현재 단어와 그 버전을 함께 읽는다. 버전을 관리하지 않는 구현은 0을 돌려준다.
+  default VersionedWord getVersionedCurrentWord(Room room) {
+    return new VersionedWord(getCurrentWord(room), 0);
+  }
+
+  /**
+   * 현재 단어가 expectedWord이고 word가 이번 라운드에 쓰이지 않았을 때만 현재 단어를 nextWord로 바꾸고
+   * 점수를 더한다. nextWord가 word와 다르면 사용 단어 목록을 비우고 새 라운드를 시작한다.
+   */
+  TurnResult commitTurn(Room room, String expectedWord, String word, String nextWord,
+      String browserId, int score);
+
+  boolean isUsedWord(Room room, String word);
+
+  // 이번 라운드에 쓰인 단어 전체. 노드의 사용 단어 필터를 처음 만들 때 채우는 데 쓴다.
+  Set<String> getUsedWords(Room room);
+
+  // 비동기 턴 처리용. 기본 구현은 동기 메서드를 감싸기만 하므로 논블로킹 구현은 재정의해야 한다.
+  default CompletableFuture<String> getCurrentWordAsync(Room room) {
+    return CompletableFuture.completedFuture(getCurrentWord(room));
+  }
+
+  default CompletableFuture<TurnResult> commitTurnAsync(Room room, String expectedWord,
+      String word, String nextWord, String browserId, int score) {
+    return CompletableFuture.completedFuture(
+        commitTurn(room, expectedWord, word, nextWord, browserId, score));
+  }
+
+  default CompletableFuture<Boolean> isUsedWordAsync(Room room, String word) {
+    return CompletableFuture.completedFuture(isUsedWord(room, word));
+  }
+
+  // 기본 방이 아니면 방 키에 만료 시간을 걸어 둔다. 턴 커밋과 touchRoom이 만료를 다시 늘린다.
+  void initRoom(Room room, String startWord);
+
+  // 방 키의 만료를 늘린다. 만료가 없는 구현은 할 일이 없다.
+  default void touchRoom(Room room) {
+  }
+
+}
@@ -0,0 +1,74 @@
+package com.wordrelay.server.repository;
+
+import com.wordrelay.server.service.CurrentWordCache;
+import com.wordrelay.server.service.UsedWordRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * commit_turn.lua가 발행하는 현재 단어 변경 알림("방 id\n버전\n단어\n새 라운드 여부")을 받아
+ * CurrentWordCache와 UsedWordRegistry에 넘긴다. 어느 노드에서 커밋됐든 모든 노드가 같은 알림을 받는다.
+ */
+@Slf4j
+@Component
+public class RedisCurrentWordListener {
+
+  private final CurrentWordCache currentWordCache;
+  private final UsedWordRegistry usedWordRegistry;
+  private final RedisMessageListenerContainer listenerContainer;
+  // 알림을 받은 순서대로 하나의 스레드에서 처리한다. 버전 비교가 있지만 대기 요청도 순서대로 깨우기 위해서다.
+  private final ExecutorService dispatchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "current-word-dispatch");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public RedisCurrentWordListener(CurrentWordCache currentWordCache,
+      UsedWordRegistry usedWordRegistry,
+      @Qualifier("redisConnectionFactoryCurrentWord") RedisConnectionFactory connectionFactory,
+      @Value("${game.current-word-cache.channel:game:current-word}") String channel) {
+    this.currentWordCache = currentWordCache;
+    this.usedWordRegistry = usedWordRegistry;
+
+    this.listenerContainer = new RedisMessageListenerContainer();
+    listenerContainer.setConnectionFactory(connectionFactory);
+    listenerContainer.setTaskExecutor(dispatchExecutor);
+    listenerContainer.addMessageListener((message, pattern) -> dispatch(message.getBody()),
+        new ChannelTopic(channel));
+  }
+
+  @PostConstruct
+  public void start() {
+    listenerContainer.afterPropertiesSet();
+    listenerContainer.start();
+  }
+
+  @PreDestroy
+  public void shutdown() throws Exception {
+    listenerContainer.destroy();
+    dispatchExecutor.shutdown();
+  }
+
+  private void dispatch(byte[] body) {
+    String[] parts = new String(body, StandardCharsets.UTF_8).split("\n", 4);
+    try {
+      currentWordCache.onChange(parts[0], Long.parseLong(parts[1]), parts[2]);
+      // 새 라운드 여부가 없는 이전 형식이면 사용 단어 필터는 건드리지 않는다.
+      if (parts.length > 3) {
+        usedWordRegistry.onCommitted(parts[0], parts[2], "1".equals(parts[3]));
+      }
+    } catch (RuntimeException e) {
+      log.warn("Dropping malformed current word notice ({} bytes)", body.length, e);
+    }
+  }
+}
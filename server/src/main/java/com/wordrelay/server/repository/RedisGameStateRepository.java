@@ -0,0 +1,146 @@
+package com.wordrelay.server.repository;
+
+import com.wordrelay.server.model.Room;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RedisGameStateRepository implements GameStateRepository {
+
+  private static final String USER_SET_KEY = "game:users";
+
+  // 사용 단어 확인, 단어 교체, 점수 반영을 한 번의 왕복으로 처리한다.
+  private static final RedisScript<Long> COMMIT_TURN_SCRIPT =
+      RedisScript.of(new ClassPathResource("scripts/commit_turn.lua"), Long.class);
+
+  private final RedisTemplate<String, String> redisTemplateCurrentWord;
+  private final ReactiveStringRedisTemplate reactiveRedisTemplateCurrentWord;
+  private final String changeChannel;
+  // 방 키의 만료 시간. 어느 노드에서든 턴이 커밋되거나 누가 들어오면 다시 늘어난다.
+  private final Duration roomTtl;
+
+  public RedisGameStateRepository(
+      @Qualifier("redisTemplateCurrentWord") RedisTemplate<String, String> redisTemplateCurrentWord,
+      @Qualifier("reactiveRedisTemplateCurrentWord") ReactiveStringRedisTemplate reactiveRedisTemplateCurrentWord,
+      @Value("${game.current-word-cache.channel:game:current-word}") String changeChannel,
+      @Value("${game.room.idle-timeout:30m}") Duration roomTtl) {
+    this.redisTemplateCurrentWord = redisTemplateCurrentWord;
+    this.reactiveRedisTemplateCurrentWord = reactiveRedisTemplateCurrentWord;
+    this.changeChannel = changeChannel;
+    this.roomTtl = roomTtl;
+  }
+
+  @Override
+  public String getCurrentWord(Room room) {
+    return redisTemplateCurrentWord.opsForValue().get(room.getCurrentWordKey());
+  }
+
+  @Override
+  public VersionedWord getVersionedCurrentWord(Room room) {
+    List<String> values = redisTemplateCurrentWord.opsForValue()
+        .multiGet(List.of(room.getCurrentWordKey(), room.getCurrentWordVersionKey()));
+    if (values == null || values.isEmpty()) {
+      return new VersionedWord(null, 0);
+    }
+    String version = values.get(1);
+    return new VersionedWord(values.get(0), version == null ? 0 : Long.parseLong(version));
+  }
+
+  @Override
+  public TurnResult commitTurn(Room room, String expectedWord, String word, String nextWord,
+      String browserId, int score) {
+    Long result = redisTemplateCurrentWord.execute(COMMIT_TURN_SCRIPT, keys(room),
+        expectedWord, word, nextWord, browserId, String.valueOf(score), changeChannel,
+        room.getRoomId(), ttlMillis(room));
+
+    return toTurnResult(result);
+  }
+
+  @Override
+  public boolean isUsedWord(Room room, String word) {
+    return Boolean.TRUE.equals(
+        redisTemplateCurrentWord.opsForSet().isMember(room.getUsedWordsKey(), word));
+  }
+
+  @Override
+  public Set<String> getUsedWords(Room room) {
+    Set<String> members = redisTemplateCurrentWord.opsForSet().members(room.getUsedWordsKey());
+    return members == null ? Set.of() : members;
+  }
+
+  @Override
+  public CompletableFuture<String> getCurrentWordAsync(Room room) {
+    return reactiveRedisTemplateCurrentWord.opsForValue().get(room.getCurrentWordKey()).toFuture();
+  }
+
+  @Override
+  public CompletableFuture<TurnResult> commitTurnAsync(Room room, String expectedWord,
+      String word, String nextWord, String browserId, int score) {
+    return reactiveRedisTemplateCurrentWord.execute(COMMIT_TURN_SCRIPT, keys(room),
+            List.of(expectedWord, word, nextWord, browserId, String.valueOf(score), changeChannel,
+                room.getRoomId(), ttlMillis(room)))
+        .next()
+        .toFuture()
+        .thenApply(RedisGameStateRepository::toTurnResult);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> isUsedWordAsync(Room room, String word) {
+    return reactiveRedisTemplateCurrentWord.opsForSet().isMember(room.getUsedWordsKey(), word)
+        .toFuture()
+        .thenApply(Boolean.TRUE::equals);
+  }
+
+  @Override
+  public void initRoom(Room room, String startWord) {
+    if (room.isDefault()) {
+      redisTemplateCurrentWord.opsForValue().setIfAbsent(room.getCurrentWordKey(), startWord);
+      return;
+    }
+    redisTemplateCurrentWord.opsForValue().setIfAbsent(room.getCurrentWordKey(), startWord, roomTtl);
+  }
+
+  // 사용 단어/버전 키는 아직 없을 수 있으나, 없는 키의 PEXPIRE는 아무 일도 하지 않는다.
+  @Override
+  public void touchRoom(Room room) {
+    if (room.isDefault()) {
+      return;
+    }
+    redisTemplateCurrentWord.executePipelined((RedisCallback<Object>) connection -> {
+      long ttl = roomTtl.toMillis();
+      for (String key : List.of(room.getCurrentWordKey(), room.getUsedWordsKey(),
+          room.getCurrentWordVersionKey())) {
+        connection.keyCommands().pExpire(key.getBytes(StandardCharsets.UTF_8), ttl);
+      }
+      return null;
+    });
+  }
+
+  // 기본 방은 만료시키지 않는다.
+  private String ttlMillis(Room room) {
+    return room.isDefault() ? "0" : String.valueOf(roomTtl.toMillis());
+  }
+
+  private static List<String> keys(Room room) {
+    return List.of(room.getCurrentWordKey(), room.getUsedWordsKey(), USER_SET_KEY,
+        room.getCurrentWordVersionKey());
+  }
+
+  private static TurnResult toTurnResult(Long result) {
+    if (result == null || result == 0L) {
+      return TurnResult.ALREADY_ANSWERED;
+    }
+    return result > 0 ? TurnResult.ACCEPTED : TurnResult.ALREADY_USED;
+  }
+}
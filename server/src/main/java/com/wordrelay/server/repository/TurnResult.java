@@ -0,0 +1,7 @@
+package com.wordrelay.server.repository;
+
+public enum TurnResult {
+  ACCEPTED,
+  ALREADY_ANSWERED,
+  ALREADY_USED
+}
@@ -0,0 +1,12 @@
+package com.wordrelay.server.repository;
+
+/**
+ * 현재 단어와 그 버전. 버전은 턴이 커밋될 때마다 Redis에서 1씩 오른다.
+ */
+public record VersionedWord(String word, long version) {
+
+  // 버전을 모르는 경우(0)에도 단어가 다르면 다른 값이 되도록 단어 해시를 섞는다.
+  public String etag() {
+    return "\"" + version + "-" + Integer.toHexString(word == null ? 0 : word.hashCode()) + "\"";
+  }
+}
@@ -0,0 +1,129 @@
+package com.wordrelay.server.service;
+
+import com.wordrelay.server.common.exception.ErrorCode;
+import com.wordrelay.server.common.response.ApiResponse;
+import com.wordrelay.server.dictionary.RetrogradeSolver;
+import com.wordrelay.server.dto.WordMessage;
+import com.wordrelay.server.dto.WordResultResponse;
+import com.wordrelay.server.model.Room;
+import jakarta.annotation.PreDestroy;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 봇 방에서 사람이 단어를 내면 잠시 뒤 봇이 답한다. 수는 후퇴 분석 표에서 바로 꺼내고,
+ * difficulty 확률로만 최선의 수를 두고 나머지는 이을 수 있는 아무 단어나 고른다.
+ */
+@Service
+@Slf4j
+public class BotService {
+
+  public static final String BOT_ID = "bot";
+  private static final int MAX_ATTEMPTS = 8;
+  // 다른 노드에서 이미 쓰인 단어로 거절됐을 때 다른 후보로 다시 두는 횟수
+  private static final int MAX_RETRIES = 3;
+
+  private final RetrogradeSolver retrogradeSolver;
+  private final RoomService roomService;
+  private final GameService gameService;
+  private final UsedWordRegistry usedWordRegistry;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final double difficulty;
+  private final long thinkMillis;
+
+  // 봇의 수는 이 스레드 하나에서만 두므로 난수 생성기도 공유하지 않는다.
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+      runnable -> {
+        Thread thread = new Thread(runnable, "bot-player");
+        thread.setDaemon(true);
+        return thread;
+      });
+  private final SplittableRandom random = new SplittableRandom();
+
+  public BotService(RetrogradeSolver retrogradeSolver, RoomService roomService,
+      GameService gameService, UsedWordRegistry usedWordRegistry,
+      SimpMessagingTemplate messagingTemplate,
+      @Value("${game.bot.difficulty:0.8}") double difficulty,
+      @Value("${game.bot.think-time:800}") long thinkMillis) {
+    this.retrogradeSolver = retrogradeSolver;
+    this.roomService = roomService;
+    this.gameService = gameService;
+    this.usedWordRegistry = usedWordRegistry;
+    this.messagingTemplate = messagingTemplate;
+    this.difficulty = difficulty;
+    this.thinkMillis = thinkMillis;
+  }
+
+  public void onTurnAccepted(String roomId, String browserId, String currentWord) {
+    if (BOT_ID.equals(browserId) || !retrogradeSolver.isAvailable()) {
+      return;
+    }
+    Room room = roomService.findRoom(roomId);
+    if (room == null || !room.isBotOpponent()) {
+      return;
+    }
+    scheduler.schedule(() -> play(room, currentWord), thinkMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void play(Room room, String currentWord) {
+    try {
+      for (int retry = 0; retry <= MAX_RETRIES; retry++) {
+        String word = chooseMove(room, currentWord);
+        if (word == null) {
+          log.debug("Bot has no move: room={}, currentWord={}", room.getRoomId(), currentWord);
+          return;
+        }
+
+        WordMessage wordMessage = new WordMessage();
+        wordMessage.setWord(word);
+        wordMessage.setBrowserId(BOT_ID);
+        ApiResponse<WordResultResponse> response = gameService.sendWord(room.getRoomId(),
+            wordMessage);
+        if (response.getCode() == 200) {
+          messagingTemplate.convertAndSend(room.destination("word"), response);
+          return;
+        }
+        // 이미 쓰인 단어면 GameService가 필터에 표시했으므로 다음 chooseMove는 다른 후보를 고른다.
+        // 그 밖의 거절(사람이 먼저 답함 등)은 다시 둘 이유가 없다.
+        if (response.getErrorCode() != ErrorCode.WORD_ALREADY_USED) {
+          return;
+        }
+      }
+      log.debug("Bot gave up after retries: room={}, currentWord={}", room.getRoomId(),
+          currentWord);
+    } catch (Exception e) {
+      log.warn("Bot move failed: room={}", room.getRoomId(), e);
+    }
+  }
+
+  String chooseMove(Room room, String currentWord) {
+    char lastChar = currentWord.charAt(currentWord.length() - 1);
+    if (random.nextDouble() < difficulty) {
+      String best = retrogradeSolver.bestMove(lastChar);
+      if (best != null && !usedWordRegistry.mightBeUsed(room, best)) {
+        return best;
+      }
+    }
+    for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      String candidate = retrogradeSolver.randomMove(lastChar, random);
+      if (candidate == null) {
+        return null;
+      }
+      if (!usedWordRegistry.mightBeUsed(room, candidate)) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdownNow();
+  }
+}
@@ -0,0 +1,151 @@
+package com.wordrelay.server.service;
+
+import com.wordrelay.server.model.Room;
+import com.wordrelay.server.repository.GameStateRepository;
+import com.wordrelay.server.repository.VersionedWord;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드마다 들고 있는 방별 현재 단어 캐시. commit_turn.lua가 보내는 변경 알림(버전 포함)으로 갱신되고,
+ * 알림은 유실될 수 있으므로 ttl이 지나면 Redis에서 다시 읽는다. 버전이 낮은 값으로는 덮어쓰지 않는다.
+ * 단어가 바뀌기를 기다리는 long-poll 요청도 여기서 방별로 붙잡아 두었다가 알림이 오면 깨운다.
+ */
+@Slf4j
+@Component
+public class CurrentWordCache {
+
+  private final GameStateRepository gameStateRepository;
+  private final boolean enabled;
+  private final long ttl;
+  private final long maxWait;
+  private final LongSupplier clock;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<String, List<CompletableFuture<VersionedWord>>> waiters = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  @Autowired
+  public CurrentWordCache(GameStateRepository gameStateRepository,
+      @Value("${game.current-word-cache.enabled:true}") boolean enabled,
+      @Value("${game.current-word-cache.ttl:30000}") long ttl,
+      @Value("${game.current-word-cache.max-wait:30000}") long maxWait) {
+    this(gameStateRepository, enabled, ttl, maxWait, System::currentTimeMillis);
+  }
+
+  CurrentWordCache(GameStateRepository gameStateRepository, boolean enabled, long ttl,
+      long maxWait, LongSupplier clock) {
+    this.gameStateRepository = gameStateRepository;
+    this.enabled = enabled;
+    this.ttl = ttl;
+    this.maxWait = maxWait;
+    this.clock = clock;
+  }
+
+  public VersionedWord get(Room room) {
+    if (!enabled) {
+      return gameStateRepository.getVersionedCurrentWord(room);
+    }
+    long now = clock.getAsLong();
+    Entry entry = entries.get(room.getRoomId());
+    if (entry != null && now - entry.loadedAt() < ttl) {
+      hits.increment();
+      return entry.value();
+    }
+    misses.increment();
+    return store(room.getRoomId(), gameStateRepository.getVersionedCurrentWord(room), now);
+  }
+
+  // Redis 변경 알림. 기다리던 요청은 새 값으로 깨운다.
+  public void onChange(String roomId, long version, String word) {
+    VersionedWord changed = new VersionedWord(word, version);
+    if (enabled) {
+      changed = store(roomId, changed, clock.getAsLong());
+    }
+    List<CompletableFuture<VersionedWord>> parked = waiters.remove(roomId);
+    if (parked != null) {
+      for (CompletableFuture<VersionedWord> waiter : parked) {
+        waiter.complete(changed);
+      }
+    }
+  }
+
+  /**
+   * 현재 단어의 ETag가 etag와 달라지면 완료되는 future. 이미 다르면 바로 완료된다.
+   * 호출한 쪽이 시간 초과로 cancel하면 대기 목록에서 빠진다.
+   */
+  public CompletableFuture<VersionedWord> awaitChange(Room room, String etag) {
+    String roomId = room.getRoomId();
+    CompletableFuture<VersionedWord> waiter = new CompletableFuture<>();
+    waiters.compute(roomId, (key, list) -> {
+      List<CompletableFuture<VersionedWord>> parked = list == null ? new ArrayList<>() : list;
+      parked.add(waiter);
+      return parked;
+    });
+    waiter.whenComplete((value, error) -> unpark(roomId, waiter));
+
+    // 등록하기 직전에 바뀐 경우를 놓치지 않도록 등록한 뒤 한 번 더 확인한다.
+    VersionedWord current = get(room);
+    if (!current.etag().equals(etag)) {
+      waiter.complete(current);
+    }
+    return waiter;
+  }
+
+  public long getMaxWait() {
+    return maxWait;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public int getWaiterCount() {
+    int count = 0;
+    for (List<CompletableFuture<VersionedWord>> parked : waiters.values()) {
+      count += parked.size();
+    }
+    return count;
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  // 지워진 방의 항목이 남지 않도록 ttl이 지난 항목을 정리한다. 다시 필요하면 Redis에서 읽는다.
+  @Scheduled(fixedDelayString = "${game.current-word-cache.eviction-interval:60000}")
+  public void evictExpired() {
+    long now = clock.getAsLong();
+    entries.values().removeIf(entry -> now - entry.loadedAt() >= ttl);
+  }
+
+  private VersionedWord store(String roomId, VersionedWord value, long now) {
+    return entries.compute(roomId, (key, old) ->
+        old != null && old.value().version() > value.version() ? old : new Entry(value, now)).value();
+  }
+
+  private void unpark(String roomId, CompletableFuture<VersionedWord> waiter) {
+    waiters.computeIfPresent(roomId, (key, list) -> {
+      list.remove(waiter);
+      return list.isEmpty() ? null : list;
+    });
+  }
+
+  private record Entry(VersionedWord value, long loadedAt) {
+  }
+}
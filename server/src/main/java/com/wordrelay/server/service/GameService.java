@@ -3,65 +3,269 @@ package com.wordrelay.server.service;
 import com.wordrelay.server.common.exception.ErrorCode;
 import com.wordrelay.server.common.response.ApiResponse;
 import com.wordrelay.server.common.response.SuccessCode;
+import com.wordrelay.server.dictionary.ContinuationIndex;
+import com.wordrelay.server.dictionary.StartWordSampler;
 import com.wordrelay.server.dto.WordMessage;
 import com.wordrelay.server.dto.WordResultResponse;
+import com.wordrelay.server.eventlog.TurnEvent;
+import com.wordrelay.server.eventlog.TurnEventLog;
+import com.wordrelay.server.metrics.GameMetrics;
+import com.wordrelay.server.metrics.GameMetrics.Stage;
+import com.wordrelay.server.model.Room;
 import com.wordrelay.server.model.Word;
+import com.wordrelay.server.repository.GameStateRepository;
+import com.wordrelay.server.repository.TurnResult;
+import com.wordrelay.server.util.DueumRule;
 import com.wordrelay.server.util.HangulUtil;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 @Slf4j
 public class GameService {
 
-  private static final String CURRENT_WORD = "currentWord";
   private final HangulUtil hangulUtil;
+  private final GameStateRepository gameStateRepository;
+  private final RoomService roomService;
+  private final UsedWordRegistry usedWordRegistry;
+  private final ContinuationIndex continuationIndex;
   private final UserService userService;
-  private final RedisTemplate<String, String> redisTemplateCurrentWord;
+  private final GameMetrics gameMetrics;
+  private final StartWordSampler startWordSampler;
+  private final TurnEventLog turnEventLog;
 
-  public GameService(
-      @Qualifier("redisTemplateCurrentWord") RedisTemplate<String, String> redisTemplateCurrentWord,
-      HangulUtil hangulUtil, UserService userService) {
-    this.redisTemplateCurrentWord = redisTemplateCurrentWord;
+  public GameService(GameStateRepository gameStateRepository, HangulUtil hangulUtil,
+      RoomService roomService, UsedWordRegistry usedWordRegistry,
+      ContinuationIndex continuationIndex, UserService userService, GameMetrics gameMetrics,
+      StartWordSampler startWordSampler, TurnEventLog turnEventLog) {
+    this.gameStateRepository = gameStateRepository;
     this.hangulUtil = hangulUtil;
+    this.roomService = roomService;
+    this.usedWordRegistry = usedWordRegistry;
+    this.continuationIndex = continuationIndex;
     this.userService = userService;
+    this.gameMetrics = gameMetrics;
+    this.startWordSampler = startWordSampler;
+    this.turnEventLog = turnEventLog;
   }
 
 
   public ApiResponse<WordResultResponse> sendWord(WordMessage wordMessage) {
+    return sendWord(Room.DEFAULT_ROOM_ID, wordMessage);
+  }
+
+  public ApiResponse<WordResultResponse> sendWord(String roomId, WordMessage wordMessage) {
+    long start = System.nanoTime();
+    try {
+      return logRejected(roomId, wordMessage, processWord(roomId, wordMessage));
+    } finally {
+      gameMetrics.recordTurn(start);
+    }
+  }
+
+  private ApiResponse<WordResultResponse> processWord(String roomId, WordMessage wordMessage) {
+    Room room = roomService.findRoom(roomId);
+    if (room == null) {
+      return error(ErrorCode.ROOM_NOT_FOUND);
+    }
+    room.touch();
+
     String message = wordMessage.getWord();
-    String currentWord = redisTemplateCurrentWord.opsForValue().get(CURRENT_WORD);
+    if (!HangulUtil.isHangulWord(message)) {
+      return error(ErrorCode.INVALID_WORD);
+    }
+
+    long stageStart = System.nanoTime();
+    String currentWord = gameStateRepository.getCurrentWord(room);
+    gameMetrics.record(Stage.REDIS_GET, stageStart);
+    // 방 키가 만료된 경우. 비동기 경로와 같이 방이 없는 것으로 본다.
+    if (currentWord == null) {
+      return error(ErrorCode.ROOM_NOT_FOUND);
+    }
 
     char lastChar = currentWord.charAt(currentWord.length() - 1);
     char firstChar = message.charAt(0);
 
-    if (lastChar != firstChar) {
-      return ApiResponse.error(ErrorCode.NOT_FOLLOWING_RULES.getCode(),
-          ErrorCode.NOT_FOLLOWING_RULES.getMessage());
+    if (!DueumRule.canFollow(lastChar, firstChar)) {
+      return error(ErrorCode.NOT_FOLLOWING_RULES);
     }
 
+    stageStart = System.nanoTime();
     Word wordData = hangulUtil.getWord(message);
+    gameMetrics.record(Stage.DICTIONARY_LOOKUP, stageStart);
 
     if (wordData == null) {
-      return ApiResponse.error(ErrorCode.INVALID_WORD.getCode(),
-          ErrorCode.INVALID_WORD.getMessage());
+      return error(ErrorCode.INVALID_WORD);
+    }
+
+    stageStart = System.nanoTime();
+    boolean used = usedWordRegistry.isUsed(room, message);
+    gameMetrics.record(Stage.USED_WORD_CHECK, stageStart);
+    if (used) {
+      return error(ErrorCode.WORD_ALREADY_USED);
+    }
+
+    if (isWinningWord(wordData)) {
+      return commit(room, currentWord, message, startWordSampler.next(),
+          wordMessage.getBrowserId(), score(wordMessage.getBrowserId(), 50));
     }
+    return commit(room, currentWord, message, message, wordMessage.getBrowserId(),
+        score(wordMessage.getBrowserId(), 10));
 
-    if (Boolean.TRUE.equals(wordData.getWinningWord())) {
+  }
 
-      // TODO: 랜덤 단어 선택
-      redisTemplateCurrentWord.opsForValue().set(CURRENT_WORD, "시작");
-      userService.addScore(wordMessage.getBrowserId(), 50);
+  /**
+   * sendWord의 논블로킹 버전. 현재 단어 조회(Redis)와 사전 조회를 동시에 시작하고,
+   * 이후 단계도 future로 이어 붙여 호출 스레드가 I/O를 기다리지 않는다.
+   */
+  public CompletableFuture<ApiResponse<WordResultResponse>> sendWordAsync(String roomId,
+      WordMessage wordMessage) {
+    long start = System.nanoTime();
+    return roomService.findRoomAsync(roomId)
+        .thenCompose(room -> processWordAsync(room, wordMessage))
+        .exceptionally(e -> {
+          log.error("Async turn failed: room={}", roomId, e);
+          return error(ErrorCode.SERVER_ERROR);
+        })
+        .thenApply(response -> logRejected(roomId, wordMessage, response))
+        .whenComplete((response, e) -> gameMetrics.recordTurn(start));
+  }
 
-      return ApiResponse.success(
-          new WordResultResponse(true, "시작", SuccessCode.WORD_VALID.getMessage()));
+  private CompletableFuture<ApiResponse<WordResultResponse>> processWordAsync(Room room,
+      WordMessage wordMessage) {
+    if (room == null) {
+      return CompletableFuture.completedFuture(error(ErrorCode.ROOM_NOT_FOUND));
+    }
+    room.touch();
+
+    String message = wordMessage.getWord();
+    if (!HangulUtil.isHangulWord(message)) {
+      return CompletableFuture.completedFuture(error(ErrorCode.INVALID_WORD));
+    }
+
+    long stageStart = System.nanoTime();
+    CompletableFuture<String> currentWordFuture = gameStateRepository.getCurrentWordAsync(room)
+        .whenComplete((currentWord, e) -> gameMetrics.record(Stage.REDIS_GET, stageStart));
+    CompletableFuture<Word> wordFuture = hangulUtil.getWordAsync(message)
+        .whenComplete((wordData, e) -> gameMetrics.record(Stage.DICTIONARY_LOOKUP, stageStart));
+
+    return currentWordFuture
+        .thenCombine(wordFuture, (currentWord, wordData) ->
+            validateAsync(room, wordMessage, currentWord, wordData))
+        .thenCompose(Function.identity());
+  }
+
+  private CompletableFuture<ApiResponse<WordResultResponse>> validateAsync(Room room,
+      WordMessage wordMessage, String currentWord, Word wordData) {
+    if (currentWord == null) {
+      return CompletableFuture.completedFuture(error(ErrorCode.ROOM_NOT_FOUND));
+    }
+    String message = wordMessage.getWord();
+    // 동기 버전과 같은 순서로 판정한다: 끝말 규칙 -> 사전 -> 사용 여부
+    if (!DueumRule.canFollow(currentWord.charAt(currentWord.length() - 1), message.charAt(0))) {
+      return CompletableFuture.completedFuture(error(ErrorCode.NOT_FOLLOWING_RULES));
     }
-    userService.addScore(wordMessage.getBrowserId(), 10);
-    redisTemplateCurrentWord.opsForValue().set(CURRENT_WORD, message);
+    if (wordData == null) {
+      return CompletableFuture.completedFuture(error(ErrorCode.INVALID_WORD));
+    }
+
+    long stageStart = System.nanoTime();
+    return usedWordRegistry.isUsedAsync(room, message).thenCompose(used -> {
+      gameMetrics.record(Stage.USED_WORD_CHECK, stageStart);
+      if (used) {
+        return CompletableFuture.completedFuture(error(ErrorCode.WORD_ALREADY_USED));
+      }
+      boolean winning = isWinningWord(wordData);
+      return commitAsync(room, currentWord, message,
+          winning ? startWordSampler.next() : message, wordMessage.getBrowserId(),
+          score(wordMessage.getBrowserId(), winning ? 50 : 10));
+    });
+  }
+
+  private CompletableFuture<ApiResponse<WordResultResponse>> commitAsync(Room room,
+      String currentWord, String word, String nextWord, String browserId, int score) {
+    int inlineScore = userService.isWriteBehind() ? 0 : score;
+    long stageStart = System.nanoTime();
+    return gameStateRepository.commitTurnAsync(room, currentWord, word, nextWord, browserId,
+            inlineScore)
+        .thenApply(result -> {
+          gameMetrics.record(Stage.COMMIT, stageStart);
+          return applyCommit(room, word, nextWord, browserId, score, inlineScore, result);
+        });
+  }
+
+  // 사전이 메모리에 있으면 이어가기 그래프로 바로 판정하고, 아니면 DB의 winning_word 컬럼을 사용한다.
+  private boolean isWinningWord(Word wordData) {
+    if (continuationIndex.isAvailable()) {
+      return continuationIndex.isWinningWord(wordData.getWord());
+    }
+    return Boolean.TRUE.equals(wordData.getWinningWord());
+  }
+
+  private ApiResponse<WordResultResponse> commit(Room room, String currentWord, String word,
+      String nextWord, String browserId, int score) {
+    // write-behind 모드면 점수는 스크립트 대신 점수 버퍼로 보낸다.
+    int inlineScore = userService.isWriteBehind() ? 0 : score;
+    long stageStart = System.nanoTime();
+    TurnResult result = gameStateRepository.commitTurn(room, currentWord, word, nextWord,
+        browserId, inlineScore);
+    gameMetrics.record(Stage.COMMIT, stageStart);
+    return applyCommit(room, word, nextWord, browserId, score, inlineScore, result);
+  }
+
+  private ApiResponse<WordResultResponse> applyCommit(Room room, String word, String nextWord,
+      String browserId, int score, int inlineScore, TurnResult result) {
+    if (result == TurnResult.ALREADY_ANSWERED) {
+      return error(ErrorCode.WORD_ALREADY_ANSWERED);
+    }
+    if (result == TurnResult.ALREADY_USED) {
+      usedWordRegistry.markUsed(room, word);
+      return error(ErrorCode.WORD_ALREADY_USED);
+    }
+
+    if (score > 0) {
+      long stageStart = System.nanoTime();
+      if (inlineScore == 0) {
+        userService.addScore(browserId, score);
+      } else {
+        userService.onScoreCommitted(browserId, score);
+      }
+      gameMetrics.record(Stage.SCORE_UPDATE, stageStart);
+    }
+
+    if (word.equals(nextWord)) {
+      usedWordRegistry.markUsed(room, word);
+    } else {
+      usedWordRegistry.resetRound(room);
+    }
+    if (turnEventLog.isEnabled()) {
+      turnEventLog.append(TurnEvent.accepted(room.getRoomId(), browserId, word, nextWord, score));
+    }
+    gameMetrics.accepted();
     return ApiResponse.success(
-        new WordResultResponse(true, message, SuccessCode.WORD_VALID.getMessage()));
+        new WordResultResponse(true, nextWord, SuccessCode.WORD_VALID.getMessage()));
+  }
+
+  // 받아들여진 턴은 커밋 직후 기록하므로 여기서는 거절된 턴만 남긴다.
+  private ApiResponse<WordResultResponse> logRejected(String roomId, WordMessage wordMessage,
+      ApiResponse<WordResultResponse> response) {
+    if (turnEventLog.isEnabled() && response.getCode() != 200) {
+      turnEventLog.append(TurnEvent.rejected(roomId, wordMessage.getBrowserId(),
+          wordMessage.getWord(),
+          response.getErrorCode() == null ? ErrorCode.SERVER_ERROR : response.getErrorCode()));
+    }
+    return response;
+  }
+
+  // 봇의 수는 리더보드에 올리지 않는다.
+  private static int score(String browserId, int points) {
+    return BotService.BOT_ID.equals(browserId) ? 0 : points;
+  }
 
+  private ApiResponse<WordResultResponse> error(ErrorCode errorCode) {
+    gameMetrics.rejected(errorCode);
+    return ApiResponse.error(errorCode);
   }
 }
@@ -0,0 +1,42 @@
+package com.wordrelay.server.service;
+
+import com.wordrelay.server.dictionary.HintIndex;
+import com.wordrelay.server.dto.HintResponse;
+import com.wordrelay.server.model.Room;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 현재 단어의 끝 음절로 이을 수 있는 단어를 추천한다. 현재 단어는 노드별 캐시에서, 사전 조회는 메모리
+ * 인덱스에서 읽고, 이미 쓴 단어는 방의 블룸 필터로 걸러 Redis 왕복 없이 응답한다.
+ */
+@Service
+@Slf4j
+public class HintService {
+
+  private final HintIndex hintIndex;
+  private final CurrentWordCache currentWordCache;
+  private final UsedWordRegistry usedWordRegistry;
+  private final int maxCount;
+
+  public HintService(HintIndex hintIndex, CurrentWordCache currentWordCache,
+      UsedWordRegistry usedWordRegistry, @Value("${game.hint.max-count:5}") int maxCount) {
+    this.hintIndex = hintIndex;
+    this.currentWordCache = currentWordCache;
+    this.usedWordRegistry = usedWordRegistry;
+    this.maxCount = maxCount;
+  }
+
+  public HintResponse getHints(Room room, int count) {
+    String currentWord = currentWordCache.get(room).word();
+    if (currentWord == null || currentWord.isEmpty()) {
+      return new HintResponse(currentWord, List.of());
+    }
+    int limit = Math.min(Math.max(count, 1), maxCount);
+    char lastChar = currentWord.charAt(currentWord.length() - 1);
+    return new HintResponse(currentWord,
+        hintIndex.top(lastChar, limit, word -> usedWordRegistry.mightBeUsed(room, word)));
+  }
+}
@@ -0,0 +1,234 @@
+package com.wordrelay.server.service;
+
+import com.wordrelay.server.config.RedisConfig;
+import com.wordrelay.server.dto.LeaderboardUpdate;
+import com.wordrelay.server.dto.RankResponse;
+import com.wordrelay.server.dto.RankingEntry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상위 N명만 메모리에 들고 점수 이벤트로 바로 갱신해 두고, 방송 주기마다 바뀐 순위만 /game/leaderboard로
+ * 보낸다. 상위 N명 밖의 사용자와 다른 노드의 점수는 주기적으로 ZREVRANGE 0 N-1만 읽어 합치고,
+ * 상위 N명 밖의 "내 순위"는 ZREVRANK로 답한다. 어느 쪽도 전체 zset을 읽거나 정렬하지 않는다.
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+  private static final String USER_SET_KEY = "game:users";
+  private static final String LEADERBOARD_DESTINATION = "/game/leaderboard";
+  // ZREVRANGE/ZREVRANK와 같은 순서: 점수 내림차순, 같은 점수는 멤버 내림차순
+  private static final Comparator<Ranked> ORDER = Comparator.comparingLong(Ranked::score)
+      .thenComparing(Ranked::browserId).reversed();
+
+  private final RedisTemplate<String, String> redisTemplateLeaderBoard;
+  private final RedisTemplate<String, String> redisTemplateSession;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final int topSize;
+
+  private final Map<String, String> nicknames = new ConcurrentHashMap<>();
+  private final AtomicBoolean dirty = new AtomicBoolean(true);
+  private final LongAdder nicknameHits = new LongAdder();
+  private final LongAdder nicknameMisses = new LongAdder();
+
+  // 상위 topSize명. top과 topMembers는 topLock 안에서만 바꾼다.
+  private final Object topLock = new Object();
+  private final TreeSet<Ranked> top = new TreeSet<>(ORDER);
+  private final Map<String, Ranked> topMembers = new ConcurrentHashMap<>();
+  // 상위 N명이 가득 찼을 때의 최저 점수. 이보다 낮은 점수는 락 없이 걸러낸다.
+  private volatile long floor = Long.MIN_VALUE;
+
+  // 마지막 동기화 때의 ZCARD
+  private volatile int total;
+  private volatile List<RankingEntry> broadcasted = List.of();
+
+  public LeaderboardService(
+      @Qualifier("redisTemplateLeaderBoard") RedisTemplate<String, String> redisTemplateLeaderBoard,
+      @Qualifier("redisTemplateSession") RedisTemplate<String, String> redisTemplateSession,
+      SimpMessagingTemplate messagingTemplate,
+      @Value("${game.leaderboard.size:10}") int topSize) {
+    this.redisTemplateLeaderBoard = redisTemplateLeaderBoard;
+    this.redisTemplateSession = redisTemplateSession;
+    this.messagingTemplate = messagingTemplate;
+    this.topSize = topSize;
+  }
+
+  // 상위 N명이면 바로 올린다. 밖의 사용자는 누적 점수를 모르므로 다음 동기화 때 들어온다.
+  public void onScore(String browserId, long delta) {
+    if (!topMembers.containsKey(browserId)) {
+      return;
+    }
+    synchronized (topLock) {
+      Ranked previous = topMembers.get(browserId);
+      if (previous != null) {
+        put(previous, new Ranked(browserId, previous.score() + delta));
+      }
+    }
+  }
+
+  public List<RankingEntry> getTopRankings() {
+    return broadcasted;
+  }
+
+  public RankResponse getRank(String browserId) {
+    synchronized (topLock) {
+      if (topMembers.containsKey(browserId)) {
+        int rank = 1;
+        for (Ranked ranked : top) {
+          if (ranked.browserId().equals(browserId)) {
+            return new RankResponse(rank, ranked.score(), total);
+          }
+          rank++;
+        }
+      }
+    }
+
+    // 상위 N명 밖이면 Redis에 묻는다. (ZREVRANK, ZSCORE 모두 O(log N) 이하)
+    ZSetOperations<String, String> zSet = redisTemplateLeaderBoard.opsForZSet();
+    Long reverseRank = zSet.reverseRank(USER_SET_KEY, browserId);
+    Double score = zSet.score(USER_SET_KEY, browserId);
+    if (reverseRank == null || score == null) {
+      return new RankResponse(0, 0, total);
+    }
+    int rank = (int) Math.max(reverseRank + 1, topMembers.size() + 1);
+    return new RankResponse(rank, score.longValue(), total);
+  }
+
+  public long getNicknameHitCount() {
+    return nicknameHits.sum();
+  }
+
+  public long getNicknameMissCount() {
+    return nicknameMisses.sum();
+  }
+
+  @Scheduled(fixedDelayString = "${game.leaderboard.broadcast-interval:1000}")
+  public void broadcast() {
+    if (!dirty.getAndSet(false)) {
+      return;
+    }
+
+    List<Ranked> current;
+    synchronized (topLock) {
+      current = new ArrayList<>(top);
+    }
+
+    List<RankingEntry> previous = broadcasted;
+    List<RankingEntry> next = topEntries(current);
+    List<RankingEntry> changed = new ArrayList<>();
+    for (int i = 0; i < next.size(); i++) {
+      if (i >= previous.size() || !next.get(i).equals(previous.get(i))) {
+        changed.add(next.get(i));
+      }
+    }
+    if (changed.isEmpty() && next.size() == previous.size()) {
+      return;
+    }
+
+    broadcasted = List.copyOf(next);
+    messagingTemplate.convertAndSend(LEADERBOARD_DESTINATION,
+        new LeaderboardUpdate(changed, next.size()));
+  }
+
+  // Redis의 상위 N명만 읽어 라이브 점수에 합친다. 점수는 줄지 않으므로 큰 쪽을 택하면, 조회와 합치기
+  // 사이에 이 노드에서 더해진 증가분도 잃지 않고, 다른 노드 점수에 밀려난 사용자는 상위 N명에서 빠진다.
+  @Scheduled(fixedDelayString = "${game.leaderboard.resync-interval:1000}")
+  public void resync() {
+    try {
+      ZSetOperations<String, String> zSet = redisTemplateLeaderBoard.opsForZSet();
+      Set<TypedTuple<String>> tuples = zSet.reverseRangeWithScores(USER_SET_KEY, 0, topSize - 1);
+      if (tuples != null) {
+        for (TypedTuple<String> tuple : tuples) {
+          if (tuple.getValue() != null && tuple.getScore() != null) {
+            offer(tuple.getValue(), tuple.getScore().longValue());
+          }
+        }
+      }
+      Long size = zSet.zCard(USER_SET_KEY);
+      total = size == null ? 0 : size.intValue();
+    } catch (RuntimeException e) {
+      log.warn("Leaderboard resync failed", e);
+    }
+  }
+
+  // score는 Redis에서 읽은 browserId의 누적 점수. 라이브 점수보다 낮으면 아직 반영되지 않은 것이다.
+  private void offer(String browserId, long score) {
+    if (score < floor && !topMembers.containsKey(browserId)) {
+      return;
+    }
+    synchronized (topLock) {
+      Ranked previous = topMembers.get(browserId);
+      Ranked candidate = new Ranked(browserId, score);
+      if (previous != null) {
+        if (previous.score() >= score) {
+          return;
+        }
+      } else if (top.size() >= topSize && ORDER.compare(candidate, top.last()) >= 0) {
+        return;
+      }
+      put(previous, candidate);
+    }
+  }
+
+  // topLock 안에서만 부른다.
+  private void put(Ranked previous, Ranked candidate) {
+    if (previous != null) {
+      top.remove(previous);
+    }
+    top.add(candidate);
+    topMembers.put(candidate.browserId(), candidate);
+    if (top.size() > topSize) {
+      topMembers.remove(top.pollLast().browserId());
+    }
+    floor = top.size() >= topSize ? top.last().score() : Long.MIN_VALUE;
+    dirty.set(true);
+  }
+
+  private List<RankingEntry> topEntries(List<Ranked> current) {
+    List<String> missing = new ArrayList<>();
+    for (Ranked ranked : current) {
+      if (!nicknames.containsKey(ranked.browserId())) {
+        missing.add(ranked.browserId());
+      }
+    }
+    nicknameHits.add(current.size() - missing.size());
+    nicknameMisses.add(missing.size());
+    if (!missing.isEmpty()) {
+      List<String> loaded = redisTemplateSession.opsForValue()
+          .multiGet(missing.stream().map(RedisConfig::sessionKey).toList());
+      for (int i = 0; loaded != null && i < missing.size(); i++) {
+        if (loaded.get(i) != null) {
+          nicknames.put(missing.get(i), loaded.get(i));
+        }
+      }
+    }
+
+    List<RankingEntry> entries = new ArrayList<>(current.size());
+    for (int i = 0; i < current.size(); i++) {
+      Ranked ranked = current.get(i);
+      entries.add(new RankingEntry(i + 1, nicknames.getOrDefault(ranked.browserId(), ""),
+          ranked.score()));
+    }
+    return entries;
+  }
+
+  private record Ranked(String browserId, long score) {
+  }
+}
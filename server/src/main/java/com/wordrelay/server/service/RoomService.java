@@ -0,0 +1,175 @@
+package com.wordrelay.server.service;
+
+import com.wordrelay.server.common.exception.CustomException;
+import com.wordrelay.server.common.exception.ErrorCode;
+import com.wordrelay.server.model.Room;
+import com.wordrelay.server.repository.GameStateRepository;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+@Service
+@Slf4j
+public class RoomService {
+
+  public static final String START_WORD = "시작";
+  private static final Pattern ROOM_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,32}");
+
+  // 방마다 독립된 엔트리라 서로 다른 방끼리는 같은 락이나 키를 두고 경합하지 않는다.
+  private final Map<String, Room> rooms = new ConcurrentHashMap<>();
+  // STOMP 세션별로 어느 방에 누구로 들어왔는지. 세션이 끊기면 이것으로 멤버를 뺀다.
+  private final Map<String, Membership> sessions = new ConcurrentHashMap<>();
+  private final GameStateRepository gameStateRepository;
+  private final UsedWordRegistry usedWordRegistry;
+  private final long idleMillis;
+
+  public RoomService(GameStateRepository gameStateRepository, UsedWordRegistry usedWordRegistry,
+      @Value("${game.room.idle-timeout:30m}") Duration idleTimeout) {
+    this.gameStateRepository = gameStateRepository;
+    this.usedWordRegistry = usedWordRegistry;
+    this.idleMillis = idleTimeout.toMillis();
+    rooms.put(Room.DEFAULT_ROOM_ID, Room.lobby());
+  }
+
+  public Room getDefaultRoom() {
+    return rooms.get(Room.DEFAULT_ROOM_ID);
+  }
+
+  public int getRoomCount() {
+    return rooms.size();
+  }
+
+  public Room createRoom() {
+    return createRoom(false);
+  }
+
+  public Room createRoom(boolean botOpponent) {
+    String roomId = UUID.randomUUID().toString().substring(0, 8);
+    Room room = Room.of(roomId, botOpponent);
+    gameStateRepository.initRoom(room, START_WORD);
+    rooms.put(roomId, room);
+    log.debug("Room created: {}", roomId);
+    return room;
+  }
+
+  public Room findRoom(String roomId) {
+    if (roomId == null || !ROOM_ID_PATTERN.matcher(roomId).matches()) {
+      return null;
+    }
+    Room room = rooms.get(roomId);
+    if (room != null) {
+      return room;
+    }
+
+    // 다른 노드에서 만든 방이면 Redis에 상태가 있으므로 이 노드에도 등록한다.
+    Room candidate = Room.of(roomId);
+    if (gameStateRepository.getCurrentWord(candidate) == null) {
+      return null;
+    }
+    return rooms.computeIfAbsent(roomId, id -> candidate);
+  }
+
+  // findRoom과 같지만 다른 노드의 방을 확인할 때도 호출 스레드를 막지 않는다.
+  public CompletableFuture<Room> findRoomAsync(String roomId) {
+    if (roomId == null || !ROOM_ID_PATTERN.matcher(roomId).matches()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    Room room = rooms.get(roomId);
+    if (room != null) {
+      return CompletableFuture.completedFuture(room);
+    }
+
+    Room candidate = Room.of(roomId);
+    return gameStateRepository.getCurrentWordAsync(candidate).thenApply(currentWord ->
+        currentWord == null ? null : rooms.computeIfAbsent(roomId, id -> candidate));
+  }
+
+  public Room getRoom(String roomId) {
+    if (roomId == null || !ROOM_ID_PATTERN.matcher(roomId).matches()) {
+      throw new CustomException(ErrorCode.INVALID_ROOM_ID.getCode(),
+          ErrorCode.INVALID_ROOM_ID.getMessage());
+    }
+    Room room = findRoom(roomId);
+    if (room == null) {
+      throw new CustomException(ErrorCode.ROOM_NOT_FOUND.getCode(),
+          ErrorCode.ROOM_NOT_FOUND.getMessage());
+    }
+    return room;
+  }
+
+  public Room join(String roomId, String browserId) {
+    validateBrowserId(browserId);
+    Room room = getRoom(roomId);
+    room.join(browserId);
+    gameStateRepository.touchRoom(room);
+    return room;
+  }
+
+  // STOMP 접속. 같은 세션이 다른 방으로 옮기면 이전 방의 멤버에서 뺀다.
+  public Room join(String roomId, String browserId, String sessionId) {
+    Room room = join(roomId, browserId);
+    Membership previous = sessions.put(sessionId, new Membership(roomId, browserId));
+    if (previous != null) {
+      release(previous);
+    }
+    return room;
+  }
+
+  // 한 세션에 여러 번 올 수 있으므로 처음 한 번만 처리된다.
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    Membership membership = sessions.remove(event.getSessionId());
+    if (membership != null) {
+      release(membership);
+    }
+  }
+
+  public Room leave(String roomId, String browserId) {
+    validateBrowserId(browserId);
+    Room room = getRoom(roomId);
+    room.leave(browserId);
+    return room;
+  }
+
+  // 이 노드에서 한동안 쓰이지 않은 방의 로컬 상태만 정리한다. 다른 노드에서 아직 쓰는 방일 수 있으므로
+  // Redis 키는 지우지 않고 키의 만료 시간(턴 커밋마다 갱신)에 맡긴다. 다시 쓰이면 findRoom이 Redis에서 되살린다.
+  @Scheduled(fixedDelayString = "${game.room.eviction-interval:60000}")
+  public void evictIdleRooms() {
+    long now = System.currentTimeMillis();
+    rooms.values().removeIf(room -> {
+      if (!room.isIdle(now, idleMillis)) {
+        return false;
+      }
+      usedWordRegistry.remove(room);
+      log.debug("Idle room evicted: {}", room.getRoomId());
+      return true;
+    });
+  }
+
+  // 이미 정리된 방이면 할 일이 없다.
+  private void release(Membership membership) {
+    Room room = rooms.get(membership.roomId());
+    if (room != null) {
+      room.disconnect(membership.browserId());
+    }
+  }
+
+  private record Membership(String roomId, String browserId) {
+  }
+
+  private void validateBrowserId(String browserId) {
+    if (browserId == null || browserId.isEmpty()) {
+      throw new CustomException(ErrorCode.BROWSER_ID_MISSING.getCode(),
+          ErrorCode.BROWSER_ID_MISSING.getMessage());
+    }
+  }
+}
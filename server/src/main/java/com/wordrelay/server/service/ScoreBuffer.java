@@ -0,0 +1,140 @@
+package com.wordrelay.server.service;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 점수 증가분을 browserId별로 모았다가 주기적으로 한 번의 파이프라인으로 리더보드에 반영한다.
+ * merge/computeIfPresent는 키 단위로 원자적이라 flush 도중 들어온 증가분도 유실되지 않는다.
+ */
+@Slf4j
+@Component
+public class ScoreBuffer {
+
+  private static final byte[] USER_SET_KEY = "game:users".getBytes(StandardCharsets.UTF_8);
+
+  private final RedisTemplate<String, String> redisTemplateLeaderBoard;
+  private final int flushThreshold;
+
+  private final Map<String, Long> pending = new ConcurrentHashMap<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "score-flush");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public ScoreBuffer(
+      @Qualifier("redisTemplateLeaderBoard") RedisTemplate<String, String> redisTemplateLeaderBoard,
+      @Value("${game.score.flush-threshold:500}") int flushThreshold) {
+    this.redisTemplateLeaderBoard = redisTemplateLeaderBoard;
+    this.flushThreshold = flushThreshold;
+  }
+
+  public void add(String browserId, long score) {
+    pending.merge(browserId, score, Long::sum);
+
+    if (pending.size() >= flushThreshold && flushScheduled.compareAndSet(false, true)) {
+      flushExecutor.execute(() -> {
+        try {
+          flush();
+        } finally {
+          flushScheduled.set(false);
+        }
+      });
+    }
+  }
+
+  // 아직 Redis에 반영되지 않은 점수
+  public long pendingScore(String browserId) {
+    return pending.getOrDefault(browserId, 0L);
+  }
+
+  public Map<String, Long> pendingSnapshot() {
+    return Map.copyOf(pending);
+  }
+
+  public int pendingSize() {
+    return pending.size();
+  }
+
+  // 대기 중인 증가분은 Redis 반영이 확인된 뒤에야 뺀다. 그동안 getScore는 Redis + 대기분을 보므로
+  // 점수가 잠깐 낮아 보이는 일이 없고, 실패한 명령의 증가분만 남아 다음 flush에서 다시 시도된다.
+  @Scheduled(fixedDelayString = "${game.score.flush-interval:1000}")
+  public synchronized void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    List<String> members = new ArrayList<>(pending.size());
+    List<Long> deltas = new ArrayList<>(pending.size());
+    for (Map.Entry<String, Long> entry : pending.entrySet()) {
+      if (entry.getValue() != 0) {
+        members.add(entry.getKey());
+        deltas.add(entry.getValue());
+      }
+    }
+    if (members.isEmpty()) {
+      return;
+    }
+
+    List<Object> results;
+    try {
+      results = redisTemplateLeaderBoard.executePipelined((RedisCallback<Object>) connection -> {
+        incrementAll(connection, members, deltas);
+        return null;
+      });
+    } catch (RedisPipelineException e) {
+      // 일부 명령만 실패한 경우. 결과가 예외인 항목만 남긴다.
+      results = e.getPipelineResult();
+    } catch (RuntimeException e) {
+      log.warn("Score flush failed, {} entries kept for retry", members.size(), e);
+      return;
+    }
+
+    int failed = 0;
+    for (int i = 0; i < members.size(); i++) {
+      Object result = results != null && i < results.size() ? results.get(i) : null;
+      if (result == null || result instanceof Exception) {
+        failed++;
+        continue;
+      }
+      long delta = deltas.get(i);
+      pending.computeIfPresent(members.get(i), (key, value) -> value - delta == 0 ? null : value - delta);
+    }
+    if (failed > 0) {
+      log.warn("Score flush partially failed, {} of {} entries kept for retry", failed,
+          members.size());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flushExecutor.shutdown();
+    flush();
+  }
+
+  private static void incrementAll(RedisConnection connection, List<String> members,
+      List<Long> deltas) {
+    for (int i = 0; i < members.size(); i++) {
+      connection.zSetCommands().zIncrBy(USER_SET_KEY, deltas.get(i),
+          members.get(i).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -2,12 +2,20 @@ package com.wordrelay.server.service;
 
 import com.wordrelay.server.common.exception.CustomException;
 import com.wordrelay.server.common.exception.ErrorCode;
+import com.wordrelay.server.config.RedisConfig;
 import com.wordrelay.server.dto.ConnectResponse;
+import com.wordrelay.server.model.Room;
+import com.wordrelay.server.repository.VersionedWord;
 import com.wordrelay.server.util.NicknameGenerator;
+import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
@@ -16,53 +24,82 @@ import org.springframework.stereotype.Service;
 public class SocketService {
 
   private final RedisTemplate<String, String> redisTemplateSession;
-  private final RedisTemplate<String, String> redisTemplateLeaderBoard;
-  private final RedisTemplate<String, String> redisTemplateCurrentWord;
+  private final CurrentWordCache currentWordCache;
+  private final RoomService roomService;
   private final SimpMessagingTemplate messagingTemplate;
 
   private final NicknameGenerator nicknameGenerator;
 
   private static final String USER_SET_KEY = "game:users";
-  private static final String CURRENT_WORD = "currentWord";
+  private static final RedisScript<String> REGISTER_USER_SCRIPT =
+      RedisScript.of(new ClassPathResource("scripts/register_user.lua"), String.class);
 
 
   public SocketService(
       @Qualifier("redisTemplateSession") RedisTemplate<String, String> redisTemplateSession,
-      @Qualifier("redisTemplateLeaderBoard") RedisTemplate<String, String> redisTemplateLeaderBoard,
-      @Qualifier("redisTemplateCurrentWord") RedisTemplate<String, String> redisTemplateCurrentWord,
+      CurrentWordCache currentWordCache, RoomService roomService,
       SimpMessagingTemplate messagingTemplate, NicknameGenerator nicknameGenerator) {
     this.redisTemplateSession = redisTemplateSession;
-    this.redisTemplateLeaderBoard = redisTemplateLeaderBoard;
-    this.redisTemplateCurrentWord = redisTemplateCurrentWord;
+    this.currentWordCache = currentWordCache;
+    this.roomService = roomService;
     this.messagingTemplate = messagingTemplate;
     this.nicknameGenerator = nicknameGenerator;
   }
 
-  public void handleUserConnection(String browserId) {
+  public void handleUserConnection(String browserId, String sessionId) {
+    handleUserConnection(Room.DEFAULT_ROOM_ID, browserId, sessionId);
+  }
+
+  public void handleUserConnection(String roomId, String browserId, String sessionId) {
     if (browserId == null || browserId.isEmpty()) {
       throw new CustomException(ErrorCode.BROWSER_ID_MISSING.getCode(),
           ErrorCode.BROWSER_ID_MISSING.getMessage());
     }
 
-    String nickname = redisTemplateSession.opsForValue().get(browserId);
+    Room room = roomService.join(roomId, browserId, sessionId);
+
+    String nickname = redisTemplateSession.opsForValue().get(RedisConfig.sessionKey(browserId));
     if (nickname == null || nickname.isEmpty()) {
-      nickname = nicknameGenerator.generateRandomNickname();
-      redisTemplateSession.opsForValue().set(browserId, nickname);
-      redisTemplateLeaderBoard.opsForZSet().add(USER_SET_KEY, browserId, 0);
+      nickname = registerUser(browserId);
     }
-    sendWelcomeMessage(browserId, nickname);
+    sendWelcomeMessage(room, browserId, nickname, sessionId);
   }
 
-  private void sendWelcomeMessage(String browserId, String nickname) {
-    String currentWord = redisTemplateCurrentWord.opsForValue().get("currentWord");
+  // 세션 등록과 리더보드 등록을 한 번의 왕복으로 처리한다. 동시에 접속해도 닉네임은 하나만 남는다.
+  private String registerUser(String browserId) {
+    return redisTemplateSession.execute(REGISTER_USER_SCRIPT,
+        List.of(RedisConfig.sessionKey(browserId), USER_SET_KEY),
+        nicknameGenerator.generateRandomNickname(), browserId);
+  }
+
+  // 접속한 세션에만 보낸다. 클라이언트는 /user/queue/userInfo, /user/queue/currentWord를 구독한다.
+  private void sendWelcomeMessage(Room room, String browserId, String nickname, String sessionId) {
+    String currentWord = currentWordCache.get(room).word();
     Map<String, Object> currentWordInfo = Map.of("currentWord", currentWord);
-    messagingTemplate.convertAndSend("/game/userInfo", new ConnectResponse(nickname, browserId));
-    messagingTemplate.convertAndSend("/game/currentWord", currentWordInfo);
+    sendToSession(sessionId, "/queue/userInfo", new ConnectResponse(nickname, browserId));
+    sendToSession(sessionId, "/queue/currentWord", currentWordInfo);
+  }
+
+  // 인증 Principal이 없으므로 STOMP 세션 id를 사용자 이름으로 써서 /user/queue/... 로 보낸다.
+  public void sendToSession(String sessionId, String destination, Object payload) {
+    SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    headerAccessor.setSessionId(sessionId);
+    headerAccessor.setLeaveMutable(true);
+    messagingTemplate.convertAndSendToUser(sessionId, destination, payload,
+        headerAccessor.getMessageHeaders());
   }
 
 
   public String getCurrentWord() {
-    return redisTemplateCurrentWord.opsForValue().get(CURRENT_WORD);
+    return getCurrentWord(Room.DEFAULT_ROOM_ID);
+  }
+
+  public String getCurrentWord(String roomId) {
+    return getVersionedCurrentWord(roomId).word();
+  }
+
+  public VersionedWord getVersionedCurrentWord(String roomId) {
+    return currentWordCache.get(roomService.getRoom(roomId));
   }
 
 }
@@ -0,0 +1,163 @@
+package com.wordrelay.server.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단어 제출용 토큰 버킷. WebSocket 세션과 browserId 양쪽 버킷에서 토큰을 하나씩 꺼내야 통과한다.
+ * 클라이언트가 고르지 못하는 세션 버킷을 먼저 보고, browserId 버킷이 막으면 세션 토큰은 돌려준다.
+ * 버킷 상태(마지막 충전 시각 + 남은 토큰)는 long 하나에 담아 CAS로만 갱신한다.
+ * 가득 찬 채로 놀고 있는 버킷은 새 버킷과 같으므로 스케줄러가 주기적으로 지운다. 키 수가 maxKeys에 닿으면
+ * 다음 정리 때까지 새 키를 받지 않는다. 요청 스레드에서는 전체를 훑지 않는다.
+ */
+@Slf4j
+@Component
+public class SubmissionRateLimiter {
+
+  private static final int TOKEN_BITS = 22;
+  private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+  private static final long MILLI = 1000; // 토큰을 1/1000 단위로 저장한다.
+
+  private final boolean enabled;
+  private final long capacity;
+  private final long refillPerSecond;
+  private final int maxKeys;
+  private final LongSupplier clock;
+  private final long epoch;
+
+  private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+  private final LongAdder allowed = new LongAdder();
+  private final LongAdder throttled = new LongAdder();
+  private final LongAdder rejectedByCapacity = new LongAdder();
+  private final LongAdder evicted = new LongAdder();
+
+  public SubmissionRateLimiter(
+      @Value("${game.rate-limit.enabled:true}") boolean enabled,
+      @Value("${game.rate-limit.capacity:5}") int capacity,
+      @Value("${game.rate-limit.refill-per-second:2}") int refillPerSecond,
+      @Value("${game.rate-limit.max-keys:100000}") int maxKeys) {
+    this(enabled, capacity, refillPerSecond, maxKeys, System::currentTimeMillis);
+  }
+
+  SubmissionRateLimiter(boolean enabled, int capacity, int refillPerSecond, int maxKeys,
+      LongSupplier clock) {
+    if (capacity <= 0 || capacity * MILLI > TOKEN_MASK || refillPerSecond <= 0) {
+      throw new IllegalArgumentException(
+          "capacity must be in 1.." + (TOKEN_MASK / MILLI) + " and refill-per-second positive");
+    }
+    this.enabled = enabled;
+    this.capacity = capacity * MILLI;
+    this.refillPerSecond = refillPerSecond;
+    this.maxKeys = maxKeys;
+    this.clock = clock;
+    this.epoch = clock.getAsLong();
+  }
+
+  public boolean tryAcquire(String browserId, String sessionId) {
+    if (!enabled) {
+      return true;
+    }
+    long now = clock.getAsLong() - epoch;
+    boolean acquired = false;
+    AtomicLong session = acquire("s:" + sessionId, now);
+    if (session != null) {
+      acquired = acquire("b:" + browserId, now) != null;
+      if (!acquired) {
+        release(session);
+      }
+    }
+    (acquired ? allowed : throttled).increment();
+    return acquired;
+  }
+
+  @Scheduled(fixedDelayString = "${game.rate-limit.eviction-interval:5000}")
+  public void evictIdle() {
+    long now = clock.getAsLong() - epoch;
+    int before = buckets.size();
+    buckets.entrySet().removeIf(entry -> isFull(entry.getValue().get(), now));
+    int removed = before - buckets.size();
+    if (removed > 0) {
+      evicted.add(removed);
+      log.debug("Evicted {} idle rate-limit buckets", removed);
+    }
+  }
+
+  public long getAllowedCount() {
+    return allowed.sum();
+  }
+
+  public long getThrottledCount() {
+    return throttled.sum();
+  }
+
+  public long getRejectedByCapacityCount() {
+    return rejectedByCapacity.sum();
+  }
+
+  public long getEvictedCount() {
+    return evicted.sum();
+  }
+
+  public int getTrackedKeys() {
+    return buckets.size();
+  }
+
+  // 토큰을 하나 꺼낸 버킷을 돌려준다. 토큰이 없거나 새 키를 받을 자리가 없으면 null
+  private AtomicLong acquire(String key, long now) {
+    AtomicLong bucket = buckets.get(key);
+    if (bucket == null) {
+      if (buckets.size() >= maxKeys) {
+        // 키가 한도까지 찼으면 다음 정리 때까지 새 키는 받지 않는다. 기존 플레이어는 영향받지 않는다.
+        rejectedByCapacity.increment();
+        return null;
+      }
+      bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(pack(now, capacity)));
+    }
+
+    while (true) {
+      long state = bucket.get();
+      long tokens = refill(state, now);
+      if (tokens < MILLI) {
+        return null;
+      }
+      if (bucket.compareAndSet(state, pack(Math.max(now, timeOf(state)), tokens - MILLI))) {
+        return bucket;
+      }
+    }
+  }
+
+  private void release(AtomicLong bucket) {
+    while (true) {
+      long state = bucket.get();
+      long tokens = Math.min(capacity, (state & TOKEN_MASK) + MILLI);
+      if (bucket.compareAndSet(state, pack(timeOf(state), tokens))) {
+        return;
+      }
+    }
+  }
+
+  private long refill(long state, long now) {
+    long elapsed = Math.max(0, now - timeOf(state));
+    long tokens = (state & TOKEN_MASK) + elapsed * refillPerSecond;
+    return Math.min(capacity, tokens);
+  }
+
+  private boolean isFull(long state, long now) {
+    return refill(state, now) >= capacity;
+  }
+
+  private static long timeOf(long state) {
+    return state >>> TOKEN_BITS;
+  }
+
+  private static long pack(long time, long tokens) {
+    return (time << TOKEN_BITS) | tokens;
+  }
+}
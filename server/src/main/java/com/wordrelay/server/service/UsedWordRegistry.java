@@ -0,0 +1,150 @@
+package com.wordrelay.server.service;
+
+import com.wordrelay.server.model.Room;
+import com.wordrelay.server.repository.GameStateRepository;
+import com.wordrelay.server.util.BloomFilter;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 라운드별 사용 단어 목록. 로컬 블룸 필터가 "사용된 적 없음"을 네트워크 없이 판정하고,
+ * 필터가 양성일 때만 Redis 집합으로 정확히 확인한다. 필터는 방마다 처음 쓸 때 Redis 집합으로 채우고,
+ * 그 뒤로는 commit_turn.lua의 변경 알림으로 다른 노드가 커밋한 단어와 라운드 교체를 따라간다.
+ */
+@Slf4j
+@Component
+public class UsedWordRegistry {
+
+  private final GameStateRepository gameStateRepository;
+  private final int expectedWords;
+  private final double falsePositiveRate;
+
+  private final Map<String, BloomFilter> filters = new ConcurrentHashMap<>();
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder filterPositives = new LongAdder();
+  private final LongAdder falsePositives = new LongAdder();
+
+  public UsedWordRegistry(GameStateRepository gameStateRepository,
+      @Value("${game.used-words.expected-words:10000}") int expectedWords,
+      @Value("${game.used-words.false-positive-rate:0.01}") double falsePositiveRate) {
+    this.gameStateRepository = gameStateRepository;
+    this.expectedWords = expectedWords;
+    this.falsePositiveRate = falsePositiveRate;
+  }
+
+  public boolean isUsed(Room room, String word) {
+    lookups.increment();
+    if (!filterOf(room).mightContain(word)) {
+      return false;
+    }
+
+    filterPositives.increment();
+    boolean used = gameStateRepository.isUsedWord(room, word);
+    if (!used) {
+      falsePositives.increment();
+    }
+    return used;
+  }
+
+  public CompletableFuture<Boolean> isUsedAsync(Room room, String word) {
+    lookups.increment();
+    if (!filterOf(room).mightContain(word)) {
+      return CompletableFuture.completedFuture(false);
+    }
+
+    filterPositives.increment();
+    return gameStateRepository.isUsedWordAsync(room, word).thenApply(used -> {
+      if (!used) {
+        falsePositives.increment();
+      }
+      return used;
+    });
+  }
+
+  // 필터만 본다. 양성이면 실제로는 안 쓰였을 수도 있다. 방의 필터가 아직 없을 때만 Redis를 읽는다.
+  public boolean mightBeUsed(Room room, String word) {
+    return filterOf(room).mightContain(word);
+  }
+
+  public void markUsed(Room room, String word) {
+    filterOf(room).put(word);
+  }
+
+  // 한방단어로 라운드가 끝나면 새 필터로 교체한다.
+  public void resetRound(Room room) {
+    BloomFilter previous = filters.put(room.getRoomId(), newFilter());
+    if (previous != null) {
+      log.debug("Used-word round reset: room={}, words={}, estimatedFpp={}", room.getRoomId(),
+          previous.getInsertions(), previous.expectedFalsePositiveRate());
+    }
+  }
+
+  /**
+   * 변경 알림(이 노드가 커밋한 턴 포함). 새 라운드면 word는 새 시작 단어이므로 필터만 비운다.
+   * 필터가 없는 방은 처음 쓸 때 Redis에서 채우므로 건드리지 않는다. 알림은 커밋 순서대로 오므로
+   * 이 노드가 먼저 표시한 단어가 늦게 온 라운드 교체로 지워져도 뒤따르는 그 단어의 알림이 다시 표시한다.
+   */
+  public void onCommitted(String roomId, String word, boolean newRound) {
+    if (newRound) {
+      filters.computeIfPresent(roomId, (id, previous) -> newFilter());
+      return;
+    }
+    BloomFilter filter = filters.get(roomId);
+    if (filter != null) {
+      filter.put(word);
+    }
+  }
+
+  public void remove(Room room) {
+    filters.remove(room.getRoomId());
+  }
+
+  public long getLookupCount() {
+    return lookups.sum();
+  }
+
+  // 필터가 양성이라 Redis까지 확인한 횟수
+  public long getFilterPositiveCount() {
+    return filterPositives.sum();
+  }
+
+  public long getFalsePositiveCount() {
+    return falsePositives.sum();
+  }
+
+  // 실제로 사용되지 않은 단어 중 필터가 양성이라고 답한 비율
+  public double getObservedFalsePositiveRate() {
+    long falsePositive = falsePositives.sum();
+    long negatives = lookups.sum() - (filterPositives.sum() - falsePositive);
+    return negatives <= 0 ? 0 : (double) falsePositive / negatives;
+  }
+
+  public double getConfiguredFalsePositiveRate() {
+    return falsePositiveRate;
+  }
+
+  private BloomFilter filterOf(Room room) {
+    BloomFilter filter = filters.get(room.getRoomId());
+    if (filter != null) {
+      return filter;
+    }
+    // 네트워크 호출이므로 맵 잠금 밖에서 채우고, 먼저 들어간 필터가 있으면 그것을 쓴다.
+    Set<String> used = gameStateRepository.getUsedWords(room);
+    BloomFilter seeded = new BloomFilter(Math.max(expectedWords, used.size()), falsePositiveRate);
+    for (String word : used) {
+      seeded.put(word);
+    }
+    BloomFilter previous = filters.putIfAbsent(room.getRoomId(), seeded);
+    return previous == null ? seeded : previous;
+  }
+
+  private BloomFilter newFilter() {
+    return new BloomFilter(expectedWords, falsePositiveRate);
+  }
+}
@@ -2,6 +2,7 @@ package com.wordrelay.server.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -9,17 +10,46 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class UserService {
 
+  private static final String USER_SET_KEY = "game:users";
+
   private final RedisTemplate<String, String> redisTemplateLeaderBoard;
+  private final ScoreBuffer scoreBuffer;
+  private final LeaderboardService leaderboardService;
+  private final boolean writeBehind;
 
   public UserService(
-      @Qualifier("redisTemplateLeaderBoard") RedisTemplate<String, String> redisTemplateLeaderBoard) {
+      @Qualifier("redisTemplateLeaderBoard") RedisTemplate<String, String> redisTemplateLeaderBoard,
+      ScoreBuffer scoreBuffer, LeaderboardService leaderboardService,
+      @Value("${game.score.write-behind:true}") boolean writeBehind) {
     this.redisTemplateLeaderBoard = redisTemplateLeaderBoard;
+    this.scoreBuffer = scoreBuffer;
+    this.leaderboardService = leaderboardService;
+    this.writeBehind = writeBehind;
+  }
+
+  public boolean isWriteBehind() {
+    return writeBehind;
   }
 
   public void addScore(String browserId, int score) {
+    if (writeBehind) {
+      scoreBuffer.add(browserId, score);
+    } else {
+      redisTemplateLeaderBoard.opsForZSet().incrementScore(USER_SET_KEY, browserId, score);
+    }
+    leaderboardService.onScore(browserId, score);
+  }
 
-    redisTemplateLeaderBoard.opsForZSet().incrementScore("game:users", browserId, score);
+  // 턴 커밋 스크립트가 이미 리더보드에 반영한 점수
+  public void onScoreCommitted(String browserId, int score) {
+    leaderboardService.onScore(browserId, score);
+  }
 
+  // 리더보드 점수에 아직 flush되지 않은 본인 점수를 더해 바로 보여준다.
+  public long getScore(String browserId) {
+    Double stored = redisTemplateLeaderBoard.opsForZSet().score(USER_SET_KEY, browserId);
+    long score = stored == null ? 0 : stored.longValue();
+    return score + scoreBuffer.pendingScore(browserId);
   }
 
 }
@@ -0,0 +1,92 @@
+package com.wordrelay.server.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 락 없이 동시에 갱신할 수 있는 고정 크기 블룸 필터. 생성 시점에 메모리 크기가 정해진다.
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final int bitSize;
+  private final int hashCount;
+  private final AtomicInteger insertions = new AtomicInteger();
+
+  public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("Invalid bloom filter parameters");
+    }
+    long optimalBits = (long) Math.ceil(
+        -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bitSize = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, optimalBits));
+    this.hashCount = Math.max(1,
+        (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    this.bits = new AtomicLongArray((bitSize + 63) >>> 6);
+  }
+
+  public void put(String value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitSize;
+      int slot = index >>> 6;
+      long mask = 1L << index;
+      long current = bits.get(slot);
+      while ((current & mask) == 0 && !bits.compareAndSet(slot, current, current | mask)) {
+        current = bits.get(slot);
+      }
+    }
+    insertions.incrementAndGet();
+  }
+
+  public boolean mightContain(String value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitSize;
+      if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public int getInsertions() {
+    return insertions.get();
+  }
+
+  public int getBitSize() {
+    return bitSize;
+  }
+
+  public int getHashCount() {
+    return hashCount;
+  }
+
+  // 현재 채워진 비트 비율로 계산한 오탐률 추정치
+  public double expectedFalsePositiveRate() {
+    long setBits = 0;
+    for (int i = 0; i < bits.length(); i++) {
+      setBits += Long.bitCount(bits.get(i));
+    }
+    return Math.pow((double) setBits / bitSize, hashCount);
+  }
+
+  // FNV-1a 64비트 해시에 murmur3 fmix64를 섞어 두 개의 32비트 해시로 나눠 쓴다.
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,61 @@
+package com.wordrelay.server.util;
+
+/**
+ * 두음법칙 대응표. 끝 음절마다 두음법칙으로 바뀐 첫 음절을 하나 미리 계산해 둔다 (없으면 0).
+ * 예) 력 -> 역, 녀 -> 여, 락 -> 낙
+ */
+public final class DueumRule {
+
+  private static final int CHOSEONG_NIEUN = 2;
+  private static final int CHOSEONG_RIEUL = 5;
+  private static final int CHOSEONG_IEUNG = 11;
+
+  // ㅑ ㅒ ㅕ ㅖ ㅛ ㅠ ㅣ 앞의 ㄹ은 ㅇ으로 바뀐다.
+  private static final boolean[] RIEUL_TO_IEUNG = vowels(2, 3, 6, 7, 12, 17, 20);
+  // ㅕ ㅖ ㅛ ㅠ ㅣ 앞의 ㄴ은 ㅇ으로 바뀐다.
+  private static final boolean[] NIEUN_TO_IEUNG = vowels(6, 7, 12, 17, 20);
+
+  private static final char[] ALTERNATIVE = new char[HangulUtil.SYLLABLE_COUNT];
+
+  static {
+    for (int offset = 0; offset < HangulUtil.SYLLABLE_COUNT; offset++) {
+      char syllable = (char) (HangulUtil.SYLLABLE_BASE + offset);
+      int choseong = HangulUtil.choseongIndex(syllable);
+      int jungseong = HangulUtil.jungseongIndex(syllable);
+      int jongseong = HangulUtil.jongseongIndex(syllable);
+
+      int replaced = -1;
+      if (choseong == CHOSEONG_RIEUL) {
+        replaced = RIEUL_TO_IEUNG[jungseong] ? CHOSEONG_IEUNG : CHOSEONG_NIEUN;
+      } else if (choseong == CHOSEONG_NIEUN && NIEUN_TO_IEUNG[jungseong]) {
+        replaced = CHOSEONG_IEUNG;
+      }
+
+      if (replaced >= 0) {
+        ALTERNATIVE[offset] = HangulUtil.compose(replaced, jungseong, jongseong);
+      }
+    }
+  }
+
+  private DueumRule() {
+  }
+
+  public static char alternative(char syllable) {
+    if (!HangulUtil.isSyllable(syllable)) {
+      return 0;
+    }
+    return ALTERNATIVE[syllable - HangulUtil.SYLLABLE_BASE];
+  }
+
+  public static boolean canFollow(char lastChar, char firstChar) {
+    return lastChar == firstChar || (firstChar != 0 && alternative(lastChar) == firstChar);
+  }
+
+  private static boolean[] vowels(int... indexes) {
+    boolean[] table = new boolean[HangulUtil.JUNGSEONG_COUNT];
+    for (int index : indexes) {
+      table[index] = true;
+    }
+    return table;
+  }
+}
@@ -1,11 +1,21 @@
 package com.wordrelay.server.util;
 
-import com.wordrelay.server.common.exception.ErrorCode;
+import com.wordrelay.server.dictionary.DictionaryIndex;
 import com.wordrelay.server.mapper.WordMapper;
 import com.wordrelay.server.model.Word;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -13,65 +23,228 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 public class HangulUtil {
-  private final WordMapper wordMapper;
 
-  private static final Set<String> ALLOWED_TABLES = Set.of(
+  public static final int SYLLABLE_BASE = 0xAC00;
+  public static final int SYLLABLE_COUNT = 11172;
+  public static final int CHOSEONG_COUNT = 19;
+  public static final int JUNGSEONG_COUNT = 21;
+  public static final int JONGSEONG_COUNT = 28;
+
+  private static final int CHOSEONG_STRIDE = JUNGSEONG_COUNT * JONGSEONG_COUNT;
+
+  private static final char[] CHOSEONG = {
+      'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+      'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+  };
+
+  private static final char[] JUNGSEONG = {
+      'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ',
+      'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+  };
+
+  // 0번은 받침 없음
+  private static final char[] JONGSEONG = {
+      0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ',
+      'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+  };
+
+  // 초성 인덱스 순서. 서버는 dictionary 테이블의 choseong 컬럼을 쓰고, 이 이름은 수집 스크립트의 dict_* 테이블용이다.
+  private static final String[] TABLE_BY_CHOSEONG = {
       "dict_g", "dict_gg", "dict_n", "dict_d", "dict_dd", "dict_r", "dict_m", "dict_b", "dict_bb",
       "dict_s", "dict_ss", "dict_ng", "dict_j", "dict_jj", "dict_ch", "dict_k", "dict_t", "dict_p",
       "dict_h"
-  );
+  };
 
-  public boolean isValidTableName(String tableName) {
-    return ALLOWED_TABLES.contains(tableName);
-  }
+  public static final List<String> TABLE_NAMES = List.of(TABLE_BY_CHOSEONG);
 
+  // 한 번의 IN 쿼리로 묶는 최대 단어 수
+  private static final int MAX_BATCH_SIZE = 64;
+
+  private final WordMapper wordMapper;
+  private final DictionaryIndex dictionaryIndex;
+  // 인덱스가 꺼져 있을 때 MyBatis 조회를 호출 스레드 대신 실행한다.
+  private final ExecutorService lookupExecutor = Executors.newVirtualThreadPerTaskExecutor();
+  // 인덱스가 꺼져 있을 때 동시에 들어온 단건 조회를 모아 getWords 한 번으로 보낸다. 모으는 쪽은 하나뿐이다.
+  private final Queue<PendingLookup> pendingLookups = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean draining = new AtomicBoolean();
 
   @Autowired
-  public HangulUtil(WordMapper wordMapper) {
+  public HangulUtil(WordMapper wordMapper, DictionaryIndex dictionaryIndex) {
     this.wordMapper = wordMapper;
+    this.dictionaryIndex = dictionaryIndex;
+  }
+
+  // 진행 중인 조회가 끝나기를 기다린 뒤 닫는다.
+  @PreDestroy
+  public void shutdown() {
+    lookupExecutor.close();
   }
 
   public Word getWord(String word) {
-    char firstChar = word.charAt(0);
-
-      int base = firstChar - 0xAC00;
-      int choseongIndex = base / (21 * 28);
-      char[] choseongList = {
-          'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
-          'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
-      };
-      char choseong = choseongList[choseongIndex];
-
-    if (!isValidTableName(CHOSEONG_TO_TABLE.get(choseong))) {
-      throw new IllegalArgumentException(ErrorCode.INVALID_TABLE_NAME.getMessage());
+    if (!isHangulWord(word)) {
+      return null;
     }
 
-      return wordMapper.getWord(CHOSEONG_TO_TABLE.get(choseong), word);
-
-  }
-
-  private static final Map<Character, String> CHOSEONG_TO_TABLE = new HashMap<>();
-  static {
-    CHOSEONG_TO_TABLE.put('ㄱ', "dict_g");
-    CHOSEONG_TO_TABLE.put('ㄲ', "dict_gg");
-    CHOSEONG_TO_TABLE.put('ㄴ', "dict_n");
-    CHOSEONG_TO_TABLE.put('ㄷ', "dict_d");
-    CHOSEONG_TO_TABLE.put('ㄸ', "dict_dd");
-    CHOSEONG_TO_TABLE.put('ㄹ', "dict_r");
-    CHOSEONG_TO_TABLE.put('ㅁ', "dict_m");
-    CHOSEONG_TO_TABLE.put('ㅂ', "dict_b");
-    CHOSEONG_TO_TABLE.put('ㅃ', "dict_bb");
-    CHOSEONG_TO_TABLE.put('ㅅ', "dict_s");
-    CHOSEONG_TO_TABLE.put('ㅆ', "dict_ss");
-    CHOSEONG_TO_TABLE.put('ㅇ', "dict_ng");
-    CHOSEONG_TO_TABLE.put('ㅈ', "dict_j");
-    CHOSEONG_TO_TABLE.put('ㅉ', "dict_jj");
-    CHOSEONG_TO_TABLE.put('ㅊ', "dict_ch");
-    CHOSEONG_TO_TABLE.put('ㅋ', "dict_k");
-    CHOSEONG_TO_TABLE.put('ㅌ', "dict_t");
-    CHOSEONG_TO_TABLE.put('ㅍ', "dict_p");
-    CHOSEONG_TO_TABLE.put('ㅎ', "dict_h");
+    if (dictionaryIndex.isEnabled()) {
+      return dictionaryIndex.find(word);
+    }
+
+    try {
+      return lookupBatched(word).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  // 메모리 인덱스면 바로 완료된 future를, 아니면 다른 조회와 묶여 가상 스레드에서 수행되는 future를 돌려준다.
+  public CompletableFuture<Word> getWordAsync(String word) {
+    if (!isHangulWord(word) || dictionaryIndex.isEnabled()) {
+      return CompletableFuture.completedFuture(getWord(word));
+    }
+    return lookupBatched(word);
+  }
+
+  /**
+   * 여러 후보 단어를 한 번에 확인한다. 사전에 있는 단어만 담긴 맵을 돌려준다.
+   * DB 조회 시 IN 목록 길이를 2의 거듭제곱으로 맞춰 prepared statement 종류를 몇 개로 제한한다.
+   */
+  public Map<String, Word> getWords(Collection<String> words) {
+    List<String> candidates = new ArrayList<>();
+    for (String word : words) {
+      if (isHangulWord(word) && !candidates.contains(word)) {
+        candidates.add(word);
+      }
+    }
+    if (candidates.isEmpty()) {
+      return Map.of();
+    }
+
+    Map<String, Word> found = new HashMap<>();
+    if (dictionaryIndex.isEnabled()) {
+      for (String candidate : candidates) {
+        Word word = dictionaryIndex.find(candidate);
+        if (word != null) {
+          found.put(candidate, word);
+        }
+      }
+      return found;
+    }
+
+    int padded = Integer.highestOneBit(candidates.size() - 1) << 1;
+    while (candidates.size() < Math.max(1, padded)) {
+      candidates.add(candidates.get(candidates.size() - 1));
+    }
+    for (Word word : wordMapper.getWords(candidates)) {
+      found.put(word.getWord(), word);
+    }
+    return found;
+  }
+
+  private CompletableFuture<Word> lookupBatched(String word) {
+    CompletableFuture<Word> future = new CompletableFuture<>();
+    pendingLookups.add(new PendingLookup(word, future));
+    if (draining.compareAndSet(false, true)) {
+      lookupExecutor.execute(this::drainLookups);
+    }
+    return future;
   }
 
+  // 앞선 쿼리가 도는 동안 쌓인 조회를 다음 쿼리 하나로 보낸다. 부하가 클수록 묶음이 커진다.
+  private void drainLookups() {
+    while (true) {
+      List<PendingLookup> batch = new ArrayList<>();
+      PendingLookup next;
+      while (batch.size() < MAX_BATCH_SIZE && (next = pendingLookups.poll()) != null) {
+        batch.add(next);
+      }
+      if (batch.isEmpty()) {
+        draining.set(false);
+        // 내려놓는 사이에 들어온 조회가 있으면 다시 맡는다.
+        if (pendingLookups.isEmpty() || !draining.compareAndSet(false, true)) {
+          return;
+        }
+        continue;
+      }
+
+      try {
+        Map<String, Word> found = getWords(batch.stream().map(PendingLookup::word).toList());
+        for (PendingLookup lookup : batch) {
+          lookup.future().complete(found.get(lookup.word()));
+        }
+      } catch (RuntimeException e) {
+        for (PendingLookup lookup : batch) {
+          lookup.future().completeExceptionally(e);
+        }
+      }
+    }
+  }
+
+  private record PendingLookup(String word, CompletableFuture<Word> future) {
+  }
+
+  public static boolean isSyllable(char c) {
+    return c >= SYLLABLE_BASE && c < SYLLABLE_BASE + SYLLABLE_COUNT;
+  }
+
+  // 비어 있지 않고 모든 글자가 완성형 한글 음절인지
+  public static boolean isHangulWord(String word) {
+    if (word == null || word.isEmpty()) {
+      return false;
+    }
+    for (int i = 0; i < word.length(); i++) {
+      if (!isSyllable(word.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public static int choseongIndex(char syllable) {
+    return isSyllable(syllable) ? (syllable - SYLLABLE_BASE) / CHOSEONG_STRIDE : -1;
+  }
+
+  public static int jungseongIndex(char syllable) {
+    return isSyllable(syllable)
+        ? (syllable - SYLLABLE_BASE) % CHOSEONG_STRIDE / JONGSEONG_COUNT : -1;
+  }
+
+  public static int jongseongIndex(char syllable) {
+    return isSyllable(syllable) ? (syllable - SYLLABLE_BASE) % JONGSEONG_COUNT : -1;
+  }
+
+  public static char choseong(char syllable) {
+    int index = choseongIndex(syllable);
+    return index < 0 ? 0 : CHOSEONG[index];
+  }
+
+  public static char jungseong(char syllable) {
+    int index = jungseongIndex(syllable);
+    return index < 0 ? 0 : JUNGSEONG[index];
+  }
+
+  // 받침이 없거나 한글 음절이 아니면 0
+  public static char jongseong(char syllable) {
+    int index = jongseongIndex(syllable);
+    return index < 0 ? 0 : JONGSEONG[index];
+  }
+
+  public static char compose(int choseongIndex, int jungseongIndex, int jongseongIndex) {
+    if (choseongIndex < 0 || choseongIndex >= CHOSEONG_COUNT
+        || jungseongIndex < 0 || jungseongIndex >= JUNGSEONG_COUNT
+        || jongseongIndex < 0 || jongseongIndex >= JONGSEONG_COUNT) {
+      return 0;
+    }
+    return (char) (SYLLABLE_BASE
+        + choseongIndex * CHOSEONG_STRIDE + jungseongIndex * JONGSEONG_COUNT + jongseongIndex);
+  }
+
+  // 첫 글자의 초성으로 사전 테이블을 고른다. 한글 음절이 아니면 null
+  public static String tableName(char firstChar) {
+    int index = choseongIndex(firstChar);
+    return index < 0 ? null : TABLE_BY_CHOSEONG[index];
+  }
 
 }
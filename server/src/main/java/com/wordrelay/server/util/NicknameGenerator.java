@@ -2,36 +2,123 @@ package com.wordrelay.server.util;
 
 import com.wordrelay.server.mapper.AdjectivesMapper;
 import com.wordrelay.server.mapper.AnimalsMapper;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+/**
+ * 기동 시 형용사/동물 목록을 한 번만 읽어 두고, 형용사 × 동물 조합을 Feistel 순열 순서로 나눠준다.
+ * 조합을 모두 쓰면 숫자 접미사를 붙여 다음 바퀴를 돈다. 순번은 Redis INCR로 받고 순열의 seed는 설정으로 고정하므로
+ * 여러 노드와 재시작을 거쳐도 같은 닉네임이 두 번 나오지 않는다. 단, 형용사/동물 목록이 바뀌면 순열도 바뀐다.
+ */
 @Component
 @Slf4j
 public class NicknameGenerator {
 
+    private static final String FALLBACK_NICKNAME = "행운의 동물🦄";
+    private static final int ROUNDS = 4;
+    static final String SEQUENCE_KEY = "nickname:sequence";
+
     private final AdjectivesMapper adjectivesMapper;
     private final AnimalsMapper animalsMapper;
+    // 0부터 시작하는 전역 순번
+    private final LongSupplier sequence;
+    private final long seed;
+
+    private String[] adjectives = new String[0];
+    private String[] animals = new String[0];
+    private long space;
+    private int halfBits;
+    private long halfMask;
+    private final int[] keys = new int[ROUNDS];
 
     @Autowired
-    public NicknameGenerator(AdjectivesMapper adjectivesMapper, AnimalsMapper animalsMapper) {
+    public NicknameGenerator(AdjectivesMapper adjectivesMapper, AnimalsMapper animalsMapper,
+        @Qualifier("redisTemplateSession") RedisTemplate<String, String> redisTemplateSession,
+        @Value("${game.nickname.seed:20250101}") long seed) {
+        this(adjectivesMapper, animalsMapper,
+            () -> redisTemplateSession.opsForValue().increment(SEQUENCE_KEY) - 1, seed);
+    }
+
+    NicknameGenerator(AdjectivesMapper adjectivesMapper, AnimalsMapper animalsMapper,
+        LongSupplier sequence, long seed) {
         this.adjectivesMapper = adjectivesMapper;
         this.animalsMapper = animalsMapper;
+        this.sequence = sequence;
+        this.seed = seed;
+    }
+
+    @PostConstruct
+    public void load() {
+        load(adjectivesMapper.selectAllAdjectives(), animalsMapper.selectAllAnimals());
+    }
+
+    void load(List<String> adjectiveList, List<String> animalList) {
+        this.adjectives = adjectiveList == null ? new String[0]
+            : adjectiveList.stream().filter(Objects::nonNull).toArray(String[]::new);
+        this.animals = animalList == null ? new String[0]
+            : animalList.stream().filter(Objects::nonNull).toArray(String[]::new);
+        this.space = (long) adjectives.length * animals.length;
+
+        // 짝수 비트 폭의 Feistel 망을 만들고, space 밖의 값은 다시 돌려서(cycle walking) 범위 안으로 맞춘다.
+        int bits = Math.max(2, 64 - Long.numberOfLeadingZeros(Math.max(1, space - 1)));
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+        long state = seed;
+        for (int i = 0; i < ROUNDS; i++) {
+            state = mix(state + 0x9E3779B97F4A7C15L);
+            keys[i] = (int) state;
+        }
+
+        log.info("Nickname pool loaded: {} adjectives x {} animals", adjectives.length, animals.length);
     }
 
     public String generateRandomNickname() {
+        if (space == 0) {
+            return FALLBACK_NICKNAME;
+        }
 
-        try {
-            int adjectiveIndex = java.util.concurrent.ThreadLocalRandom.current().nextInt(0, 145);
-            int animalIndex = java.util.concurrent.ThreadLocalRandom.current().nextInt(0, 50);
+        long next = sequence.getAsLong();
+        long index = permute(next % space);
+        long lap = next / space;
 
-            String adjective = adjectivesMapper.selectAdjective(adjectiveIndex);
-            String animal = animalsMapper.selectAnimal(animalIndex);
+        String nickname = adjectives[(int) (index / animals.length)] + " "
+            + animals[(int) (index % animals.length)];
+        return lap == 0 ? nickname : nickname + (lap + 1);
+    }
+
+    private long permute(long value) {
+        long result = value;
+        do {
+            result = encrypt(result);
+        } while (result >= space);
+        return result;
+    }
 
-            return adjective + " " + animal;
-        } catch (Exception e) {
-            return "행운의 동물🦄";
+    private long encrypt(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (int key : keys) {
+            long mixed = left ^ (mix(right ^ key) & halfMask);
+            left = right;
+            right = mixed;
         }
+        return (left << halfBits) | right;
+    }
 
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
     }
 }
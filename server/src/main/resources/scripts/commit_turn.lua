@@ -0,0 +1,36 @@
+-- KEYS[1]: 현재 단어 키, KEYS[2]: 사용 단어 집합 키, KEYS[3]: 리더보드 zset 키, KEYS[4]: 현재 단어 버전 키
+-- ARGV[1]: 기대하는 이전 단어, ARGV[2]: 제출한 단어, ARGV[3]: 다음 현재 단어
+-- ARGV[4]: browserId, ARGV[5]: 점수 (0이면 점수는 반영하지 않음)
+-- ARGV[6]: 현재 단어 변경 알림 채널, ARGV[7]: 방 id, ARGV[8]: 방 키 만료 시간 ms (0이면 만료 없음)
+-- 반환값: 1 성공, 0 다른 플레이어가 먼저 답함, -1 이미 사용된 단어
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+  return 0
+end
+
+if redis.call('SADD', KEYS[2], ARGV[2]) == 0 then
+  return -1
+end
+
+redis.call('SET', KEYS[1], ARGV[3])
+-- 노드마다 들고 있는 현재 단어 캐시와 사용 단어 필터를 갱신하도록 버전과 함께 알린다.
+-- (방 id \n 버전 \n 단어 \n 새 라운드면 1, 아니면 0)
+local newRound = ARGV[3] ~= ARGV[2]
+local version = redis.call('INCR', KEYS[4])
+redis.call('PUBLISH', ARGV[6],
+    ARGV[7] .. '\n' .. version .. '\n' .. ARGV[3] .. '\n' .. (newRound and '1' or '0'))
+if newRound then
+  -- 한방단어로 체인이 초기화되면 새 라운드를 시작한다.
+  redis.call('DEL', KEYS[2])
+end
+-- 어느 노드에서 턴이 들어오든 방 키의 만료를 함께 늘린다.
+local ttl = tonumber(ARGV[8])
+if ttl ~= nil and ttl > 0 then
+  redis.call('PEXPIRE', KEYS[1], ttl)
+  redis.call('PEXPIRE', KEYS[2], ttl)
+  redis.call('PEXPIRE', KEYS[4], ttl)
+end
+
+if tonumber(ARGV[5]) ~= 0 then
+  redis.call('ZINCRBY', KEYS[3], ARGV[5], ARGV[4])
+end
+return 1
@@ -0,0 +1,11 @@
+-- KEYS[1]: 세션 키(session:browserId), KEYS[2]: 리더보드 zset 키
+-- ARGV[1]: 새 닉네임, ARGV[2]: browserId
+-- 이미 등록된 사용자면 기존 닉네임을, 아니면 새로 등록한 닉네임을 돌려준다.
+local nickname = redis.call('GET', KEYS[1])
+if nickname then
+  return nickname
+end
+
+redis.call('SET', KEYS[1], ARGV[1])
+redis.call('ZADD', KEYS[2], 'NX', 0, ARGV[2])
+return ARGV[1]
@@ -0,0 +1,93 @@
+package com.wordrelay.server.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+class BatchingSessionDecoratorTest {
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+  private WebSocketSession delegate;
+
+  @BeforeEach
+  void setUp() {
+    delegate = mock(WebSocketSession.class);
+    when(delegate.isOpen()).thenReturn(true);
+    when(delegate.getId()).thenReturn("session-1");
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("모인 프레임은 한 메시지로 보내고 currentWord는 최신 값만 남긴다")
+  void batchAndCoalesceTest() throws Exception {
+    BatchingSessionDecorator session = decorator(1024);
+
+    session.sendMessage(new TextMessage(frame("/user/queue/currentWord", "sub-1", "기차")));
+    session.sendMessage(new TextMessage(frame("/game/word", "sub-2", "차표")));
+    session.sendMessage(new TextMessage(frame("/user/queue/currentWord", "sub-1", "표범")));
+    assertThat(session.queuedFrames()).isEqualTo(2);
+
+    session.flush();
+
+    ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+    verify(delegate, times(1)).sendMessage(captor.capture());
+    assertThat(captor.getValue().getPayload()).isEqualTo(
+        frame("/game/word", "sub-2", "차표") + frame("/user/queue/currentWord", "sub-1", "표범"));
+  }
+
+  @Test
+  @DisplayName("버퍼 한도를 넘으면 세션을 끊도록 예외를 던진다")
+  void bufferLimitTest() throws Exception {
+    BatchingSessionDecorator session = decorator(128);
+
+    session.sendMessage(new TextMessage(frame("/game/word", "sub-2", "기차")));
+
+    assertThatThrownBy(() -> session.sendMessage(
+        new TextMessage(frame("/game/word", "sub-2", "차표차표차표차표"))))
+        .isInstanceOf(SessionLimitExceededException.class);
+  }
+
+  @Test
+  @DisplayName("턴 결과 방송과 개인 오류 응답은 합치지 않고 모두 보낸다")
+  void keepTurnEventsTest() throws Exception {
+    BatchingSessionDecorator session = decorator(1024);
+
+    session.sendMessage(new TextMessage(frame("/game/word", "sub-1", "기차")));
+    session.sendMessage(new TextMessage(frame("/game/room1/word", "sub-2", "사과")));
+    session.sendMessage(new TextMessage(frame("/user/queue/word", "sub-3", "오류1")));
+    session.sendMessage(new TextMessage(frame("/game/word", "sub-1", "차표")));
+    session.sendMessage(new TextMessage(frame("/user/queue/word", "sub-3", "오류2")));
+    session.sendMessage(new TextMessage(frame("/game/room1/word", "sub-2", "과자")));
+
+    assertThat(session.queuedFrames()).isEqualTo(6);
+  }
+
+  private BatchingSessionDecorator decorator(int bufferSizeLimit) {
+    return new BatchingSessionDecorator(delegate, scheduler, 60_000, 10_000, bufferSizeLimit,
+        List.of("/user/queue/currentWord"));
+  }
+
+  private static String frame(String destination, String subscription, String body) {
+    return "MESSAGE\ndestination:" + destination + "\nsubscription:" + subscription
+        + "\ncontent-type:application/json\n\n" + body + "\0";
+  }
+}
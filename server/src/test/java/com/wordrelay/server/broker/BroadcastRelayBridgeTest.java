@@ -0,0 +1,81 @@
+package com.wordrelay.server.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+class BroadcastRelayBridgeTest {
+
+  private MessageChannel channelA;
+  private MessageChannel channelB;
+  private BroadcastRelayBridge nodeA;
+
+  @BeforeEach
+  void setUp() {
+    InMemoryBroadcastRelay relay = new InMemoryBroadcastRelay();
+    channelA = mock(MessageChannel.class);
+    channelB = mock(MessageChannel.class);
+    nodeA = new BroadcastRelayBridge(Optional.of(relay), channelA, List.of("/game/leaderboard"));
+    BroadcastRelayBridge nodeB = new BroadcastRelayBridge(Optional.of(relay), channelB,
+        List.of("/game/leaderboard"));
+    nodeA.subscribe();
+    nodeB.subscribe();
+  }
+
+  @Test
+  @DisplayName("/game 방송은 다른 노드의 브로커에만 한 번 전달된다")
+  void relayToOtherNodeTest() {
+    byte[] payload = "{\"word\":\"기차\"}".getBytes(StandardCharsets.UTF_8);
+    Message<?> message = broadcast("/game/room1/word", payload, false);
+
+    assertThat(nodeA.preSend(message, channelA)).isSameAs(message);
+
+    ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+    verify(channelB).send(captor.capture());
+    verify(channelA, never()).send(any());
+
+    Message<?> relayed = captor.getValue();
+    assertThat(relayed.getPayload()).isEqualTo(payload);
+    assertThat(SimpMessageHeaderAccessor.getDestination(relayed.getHeaders()))
+        .isEqualTo("/game/room1/word");
+    assertThat(relayed.getHeaders().get(BroadcastRelayBridge.RELAYED_HEADER)).isEqualTo(true);
+  }
+
+  @Test
+  @DisplayName("중계된 메시지, /game 밖의 메시지, 노드마다 계산하는 리더보드는 중계하지 않는다")
+  void skipRelayedMessageTest() {
+    byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+
+    nodeA.preSend(broadcast("/game/word", payload, true), channelA);
+    nodeA.preSend(broadcast("/user/queue/errors", payload, false), channelA);
+    nodeA.preSend(broadcast("/game/leaderboard", payload, false), channelA);
+
+    verify(channelB, never()).send(any());
+  }
+
+  private static Message<?> broadcast(String destination, byte[] payload, boolean relayed) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setDestination(destination);
+    accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    if (relayed) {
+      accessor.setHeader(BroadcastRelayBridge.RELAYED_HEADER, true);
+    }
+    return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+  }
+}
@@ -72,10 +72,12 @@ class RedisConfigTest {
     }
 
     @Test
-    @DisplayName("리더보드와 세션의 RedisConnectionFactory가 서로 다른 인스턴스인지 테스트")
-    void differentConnectionFactoriesTest() {
+    @DisplayName("리더보드와 세션이 커넥션 팩토리 하나를 공유하는지 테스트")
+    void sharedConnectionFactoryTest() {
         assertThat(redisConnectionFactoryLeaderBoard)
-                .isNotSameAs(redisConnectionFactorySession);
+                .isSameAs(redisConnectionFactorySession);
+        assertThat(((LettuceConnectionFactory) redisConnectionFactoryLeaderBoard).getShareNativeConnection())
+                .isTrue();
     }
 
     @Test
@@ -86,27 +88,16 @@ class RedisConfigTest {
     }
 
     @Test
-    @DisplayName("리더보드용 Redis가 데이터베이스 0번으로 설정되었는지 테스트")
-    void leaderBoardDatabaseConfigurationTest() {
-        LettuceConnectionFactory lettuceFactory = (LettuceConnectionFactory) redisConnectionFactoryLeaderBoard;
-        assertThat(lettuceFactory.getDatabase()).isEqualTo(0);
-    }
-
-    @Test
-    @DisplayName("세션용 Redis가 데이터베이스 1번으로 설정되었는지 테스트")
-    void sessionDatabaseConfigurationTest() {
+    @DisplayName("공유 커넥션 팩토리가 리더보드 DB(0번)를 사용하는지 테스트")
+    void sharedDatabaseConfigurationTest() {
         LettuceConnectionFactory lettuceFactory = (LettuceConnectionFactory) redisConnectionFactorySession;
-        assertThat(lettuceFactory.getDatabase()).isEqualTo(1);
+        assertThat(lettuceFactory.getDatabase()).isEqualTo(RedisConfig.LEADER_BOARD_DATABASE);
     }
 
     @Test
-    @DisplayName("리더보드와 세션의 Redis 데이터베이스가 서로 다른지 테스트")
-    void differentDatabaseConfigurationTest() {
-        LettuceConnectionFactory leaderBoardFactory = (LettuceConnectionFactory) redisConnectionFactoryLeaderBoard;
-        LettuceConnectionFactory sessionFactory = (LettuceConnectionFactory) redisConnectionFactorySession;
-
-        assertThat(leaderBoardFactory.getDatabase())
-                .isNotEqualTo(sessionFactory.getDatabase());
+    @DisplayName("세션 키에는 접두사가 붙는지 테스트")
+    void sessionKeyTest() {
+        assertThat(RedisConfig.sessionKey("browser")).isEqualTo("session:browser");
     }
 
     @Test
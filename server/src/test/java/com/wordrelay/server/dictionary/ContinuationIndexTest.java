@@ -0,0 +1,63 @@
+package com.wordrelay.server.dictionary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.wordrelay.server.mapper.WordMapper;
+import com.wordrelay.server.model.Word;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ContinuationIndexTest {
+
+  private ContinuationIndex continuationIndex;
+
+  @BeforeEach
+  void setUp() {
+    WordMapper wordMapper = mock(WordMapper.class);
+    when(wordMapper.getAllWords(anyInt())).thenReturn(List.of());
+    when(wordMapper.getAllWords(0)).thenReturn(
+        List.of(word("가방"), word("기차"), word("가지"), word("가을")));
+    when(wordMapper.getAllWords(14)).thenReturn(List.of(word("차표")));
+    when(wordMapper.getAllWords(11)).thenReturn(List.of(word("역사")));
+
+    DictionaryIndex dictionaryIndex = new DictionaryIndex(wordMapper, true);
+    dictionaryIndex.load();
+    continuationIndex = new ContinuationIndex(dictionaryIndex);
+    continuationIndex.build();
+  }
+
+  @Test
+  @DisplayName("음절로 시작하는 단어 수와 목록을 돌려준다")
+  void continuationsTest() {
+    assertThat(continuationIndex.continuationCount('가')).isEqualTo(3);
+    assertThat(continuationIndex.continuations('가')).containsExactly("가방", "가을", "가지");
+    assertThat(continuationIndex.continuations('차')).containsExactly("차표");
+  }
+
+  @Test
+  @DisplayName("이을 단어가 없는 음절로 끝나면 한방단어다")
+  void winningWordTest() {
+    assertThat(continuationIndex.isWinningWord("기차")).isFalse();
+    assertThat(continuationIndex.isWinningWord("차표")).isTrue();
+    assertThat(continuationIndex.hasContinuation('a')).isFalse();
+  }
+
+  @Test
+  @DisplayName("두음법칙으로 이어지는 단어가 있으면 한방단어가 아니다")
+  void dueumContinuationTest() {
+    assertThat(continuationIndex.continuationCount('력')).isZero();
+    assertThat(continuationIndex.nextWordCount('력')).isEqualTo(1);
+    assertThat(continuationIndex.isWinningWord("능력")).isFalse();
+  }
+
+  private static Word word(String text) {
+    Word word = new Word();
+    word.setWord(text);
+    return word;
+  }
+}
@@ -0,0 +1,71 @@
+package com.wordrelay.server.dictionary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.wordrelay.server.mapper.WordMapper;
+import com.wordrelay.server.model.Word;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DictionaryIndexTest {
+
+  private DictionaryIndex dictionaryIndex;
+
+  @BeforeEach
+  void setUp() {
+    WordMapper wordMapper = mock(WordMapper.class);
+    when(wordMapper.getAllWords(anyInt())).thenReturn(List.of());
+    when(wordMapper.getAllWords(0)).thenReturn(List.of(
+        word(3, "기차", false), word(1, "가방", false), word(2, "가방끈", false), word(1, "가방", false)));
+    when(wordMapper.getAllWords(11)).thenReturn(List.of(word(7, "아름", true)));
+
+    dictionaryIndex = new DictionaryIndex(wordMapper, true);
+    dictionaryIndex.load();
+  }
+
+  @Test
+  @DisplayName("사전에 있는 단어는 Word로 조회된다")
+  void findExistingWordTest() {
+    Word found = dictionaryIndex.find("가방끈");
+
+    assertThat(found).isNotNull();
+    assertThat(found.getId()).isEqualTo(2);
+    assertThat(found.getWord()).isEqualTo("가방끈");
+    assertThat(found.getWinningWord()).isFalse();
+  }
+
+  @Test
+  @DisplayName("한방단어 여부가 유지된다")
+  void winningWordFlagTest() {
+    assertThat(dictionaryIndex.find("아름").getWinningWord()).isTrue();
+  }
+
+  @Test
+  @DisplayName("없는 단어나 한글이 아닌 입력은 null을 반환한다")
+  void missingWordTest() {
+    assertThat(dictionaryIndex.find("가")).isNull();
+    assertThat(dictionaryIndex.find("가방끈끈")).isNull();
+    assertThat(dictionaryIndex.find("apple")).isNull();
+    assertThat(dictionaryIndex.find("")).isNull();
+  }
+
+  @Test
+  @DisplayName("중복 단어는 한 번만 적재된다")
+  void duplicateWordTest() {
+    assertThat(dictionaryIndex.size()).isEqualTo(4);
+    assertThat(dictionaryIndex.contains("가방")).isTrue();
+  }
+
+  private static Word word(int id, String text, boolean winning) {
+    Word word = new Word();
+    word.setId(id);
+    word.setWord(text);
+    word.setWinningWord(winning);
+    return word;
+  }
+}
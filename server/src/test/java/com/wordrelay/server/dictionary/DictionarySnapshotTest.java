@@ -0,0 +1,94 @@
+package com.wordrelay.server.dictionary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wordrelay.server.mapper.WordMapper;
+import com.wordrelay.server.model.Word;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DictionarySnapshotTest {
+
+  @TempDir
+  Path directory;
+
+  private Path file;
+
+  @BeforeEach
+  void setUp() {
+    file = directory.resolve("dictionary.snap");
+    DictionaryIndex source = new DictionaryIndex(mapper(1L), true, file.toString());
+    source.load();
+  }
+
+  @Test
+  @DisplayName("DB에서 읽은 인덱스를 스냅샷으로 기록하고, 다음 기동 때는 DB 대신 스냅샷을 연다")
+  void reopenSnapshotTest() {
+    WordMapper wordMapper = mapper(1L);
+    DictionaryIndex reopened = new DictionaryIndex(wordMapper, true, file.toString());
+    reopened.load();
+
+    verify(wordMapper, never()).getAllWords(anyInt());
+    assertThat(Files.exists(file)).isTrue();
+    assertThat(reopened.size()).isEqualTo(3);
+    assertThat(reopened.find("가방끈").getId()).isEqualTo(2);
+    assertThat(reopened.find("아름").getWinningWord()).isTrue();
+    assertThat(reopened.find("가방").getWinningWord()).isFalse();
+    assertThat(reopened.find("가")).isNull();
+  }
+
+  @Test
+  @DisplayName("revision이 다른 스냅샷은 버리고 DB에서 다시 읽는다")
+  void staleSnapshotTest() {
+    WordMapper wordMapper = mapper(2L);
+    new DictionaryIndex(wordMapper, true, file.toString()).load();
+
+    verify(wordMapper).getAllWords(0);
+    assertThat(new DictionarySnapshot(file).open(1L)).isNull();
+    assertThat(new DictionarySnapshot(file).open(2L)).isNotNull();
+  }
+
+  @Test
+  @DisplayName("본문이 손상된 스냅샷은 체크섬 검사에서 걸러진다")
+  void corruptedSnapshotTest() throws Exception {
+    try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+      long last = raf.length() - 1;
+      raf.seek(last);
+      int value = raf.read();
+      raf.seek(last);
+      raf.write(value ^ 0xFF);
+    }
+
+    assertThat(new DictionarySnapshot(file).open(1L)).isNull();
+  }
+
+  private static WordMapper mapper(long revision) {
+    WordMapper wordMapper = mock(WordMapper.class);
+    when(wordMapper.selectRevision()).thenReturn(revision);
+    when(wordMapper.getAllWords(anyInt())).thenReturn(List.of());
+    when(wordMapper.getAllWords(0)).thenReturn(List.of(word(1, "가방"), word(2, "가방끈")));
+    Word winning = word(7, "아름");
+    winning.setWinningWord(true);
+    when(wordMapper.getAllWords(11)).thenReturn(List.of(winning));
+    return wordMapper;
+  }
+
+  private static Word word(int id, String text) {
+    Word word = new Word();
+    word.setId(id);
+    word.setWord(text);
+    word.setWinningWord(false);
+    return word;
+  }
+}
@@ -0,0 +1,86 @@
+package com.wordrelay.server.dictionary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.wordrelay.server.mapper.WordMapper;
+import com.wordrelay.server.model.Word;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HintIndexTest {
+
+  private HintIndex hintIndex;
+
+  @BeforeEach
+  void setUp() {
+    WordMapper wordMapper = mock(WordMapper.class);
+    when(wordMapper.getAllWords(anyInt())).thenReturn(List.of());
+    when(wordMapper.getAllWords(0)).thenReturn(List.of(word("고래")));
+    when(wordMapper.getAllWords(11)).thenReturn(List.of(word("양말")));
+    when(wordMapper.getAllWords(14)).thenReturn(
+        List.of(word("차표"), word("차량"), word("차고"), word("차도")));
+
+    hintIndex = build(wordMapper);
+  }
+
+  @Test
+  @DisplayName("다음 사람이 잇기 어려운 단어부터, 같으면 짧은 단어부터 추천한다")
+  void rankingTest() {
+    // 차도/차표 뒤에는 이을 단어가 없고, 차고(고래)/차량(양말)은 하나씩 있다.
+    assertThat(hintIndex.top('차', 10, word -> false))
+        .containsExactly("차도", "차표", "차고", "차량");
+    assertThat(hintIndex.top('차', 2, word -> false)).containsExactly("차도", "차표");
+  }
+
+  @Test
+  @DisplayName("이미 쓴 단어는 건너뛰고 다음 순위로 채운다")
+  void excludeUsedWordTest() {
+    assertThat(hintIndex.top('차', 2, "차도"::equals)).containsExactly("차표", "차고");
+  }
+
+  @Test
+  @DisplayName("두음법칙으로 바뀐 음절로 시작하는 단어도 추천한다")
+  void dueumTest() {
+    assertThat(hintIndex.top('량', 3, word -> false)).containsExactly("양말");
+    assertThat(hintIndex.top('말', 3, word -> false)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("다음 단어 수가 같으면 후퇴 분석에서 상대가 지는 자리로 보내는 단어를 먼저 추천한다")
+  void depthRankingTest() {
+    // 고 -> 고래로 상대가 바로 이긴다. 량(양) -> 양말 -> 말썽으로 상대가 진다.
+    WordMapper wordMapper = mock(WordMapper.class);
+    when(wordMapper.getAllWords(anyInt())).thenReturn(List.of());
+    when(wordMapper.getAllWords(0)).thenReturn(List.of(word("고래")));
+    when(wordMapper.getAllWords(6)).thenReturn(List.of(word("말썽")));
+    when(wordMapper.getAllWords(11)).thenReturn(List.of(word("양말")));
+    when(wordMapper.getAllWords(14)).thenReturn(List.of(word("차고"), word("차량")));
+
+    assertThat(build(wordMapper).top('차', 10, word -> false)).containsExactly("차량", "차고");
+  }
+
+  private static HintIndex build(WordMapper wordMapper) {
+    DictionaryIndex dictionaryIndex = new DictionaryIndex(wordMapper, true);
+    dictionaryIndex.load();
+    ContinuationIndex continuationIndex = new ContinuationIndex(dictionaryIndex);
+    continuationIndex.build();
+    RetrogradeSolver retrogradeSolver = new RetrogradeSolver(dictionaryIndex, continuationIndex,
+        true, 1, "");
+    retrogradeSolver.solve();
+    HintIndex hintIndex = new HintIndex(dictionaryIndex, continuationIndex, retrogradeSolver);
+    hintIndex.build();
+    return hintIndex;
+  }
+
+  private static Word word(String text) {
+    Word word = new Word();
+    word.setWord(text);
+    word.setWinningWord(false);
+    return word;
+  }
+}
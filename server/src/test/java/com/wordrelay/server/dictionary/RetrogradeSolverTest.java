@@ -0,0 +1,96 @@
+package com.wordrelay.server.dictionary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.wordrelay.server.dictionary.RetrogradeSolver.Outcome;
+import com.wordrelay.server.mapper.WordMapper;
+import com.wordrelay.server.model.Word;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RetrogradeSolverTest {
+
+  @TempDir
+  Path directory;
+
+  private DictionaryIndex dictionaryIndex;
+  private ContinuationIndex continuationIndex;
+
+  @BeforeEach
+  void setUp() {
+    // 기 -> 차 -> {표, 고 -> 래}, 가 <-> 나 는 끝나지 않는 순환
+    WordMapper wordMapper = mock(WordMapper.class);
+    when(wordMapper.selectRevision()).thenReturn(3L);
+    when(wordMapper.getAllWords(anyInt())).thenReturn(List.of());
+    when(wordMapper.getAllWords(0)).thenReturn(
+        List.of(word("기차"), word("고래"), word("가나")));
+    when(wordMapper.getAllWords(2)).thenReturn(List.of(word("나가")));
+    when(wordMapper.getAllWords(14)).thenReturn(List.of(word("차표"), word("차고")));
+
+    dictionaryIndex = new DictionaryIndex(wordMapper, true);
+    dictionaryIndex.load();
+    continuationIndex = new ContinuationIndex(dictionaryIndex);
+    continuationIndex.build();
+  }
+
+  @Test
+  @DisplayName("이을 단어가 없는 음절에서부터 승패를 거꾸로 전파한다")
+  void outcomeTest() {
+    RetrogradeSolver solver = solver("");
+
+    assertThat(solver.outcome('표')).isEqualTo(Outcome.LOSS);
+    assertThat(solver.outcome('래')).isEqualTo(Outcome.LOSS);
+    assertThat(solver.outcome('차')).isEqualTo(Outcome.WIN);
+    assertThat(solver.outcome('고')).isEqualTo(Outcome.WIN);
+    assertThat(solver.outcome('기')).isEqualTo(Outcome.LOSS);
+    assertThat(solver.depth('기')).isEqualTo(2);
+    assertThat(solver.outcome('가')).isEqualTo(Outcome.DRAW);
+    assertThat(solver.outcome('나')).isEqualTo(Outcome.DRAW);
+  }
+
+  @Test
+  @DisplayName("이기는 자리에서는 상대를 지는 자리로 보내는 단어를 고른다")
+  void bestMoveTest() {
+    RetrogradeSolver solver = solver("");
+
+    assertThat(solver.bestMove('차')).isEqualTo("차표");
+    assertThat(solver.bestMove('기')).isEqualTo("기차");
+    assertThat(solver.bestMove('가')).isEqualTo("가나");
+    assertThat(solver.bestMove('표')).isNull();
+    assertThat(solver.randomMove('차', new SplittableRandom(1))).isIn("차표", "차고");
+  }
+
+  @Test
+  @DisplayName("풀이 결과를 파일로 남기고 같은 사전이면 다시 읽는다")
+  void persistTest() {
+    Path path = directory.resolve("bot.solution");
+    solver(path.toString());
+
+    RetrogradeSolver.Solution reloaded = RetrogradeSolver.read(path, 3L);
+    assertThat(reloaded).isNotNull();
+    assertThat(reloaded.outcome()['차' - 0xAC00]).isEqualTo((byte) Outcome.WIN.ordinal());
+    assertThat(RetrogradeSolver.read(path, 4L)).isNull();
+  }
+
+  private RetrogradeSolver solver(String path) {
+    RetrogradeSolver solver = new RetrogradeSolver(dictionaryIndex, continuationIndex, true, 2,
+        path);
+    solver.solve();
+    return solver;
+  }
+
+  private static Word word(String text) {
+    Word word = new Word();
+    word.setWord(text);
+    word.setWinningWord(false);
+    return word;
+  }
+}
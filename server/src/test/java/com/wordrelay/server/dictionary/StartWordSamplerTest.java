@@ -0,0 +1,104 @@
+package com.wordrelay.server.dictionary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.wordrelay.server.mapper.WordMapper;
+import com.wordrelay.server.model.Word;
+import com.wordrelay.server.service.RoomService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StartWordSamplerTest {
+
+  private DictionaryIndex dictionaryIndex;
+  private ContinuationIndex continuationIndex;
+
+  @BeforeEach
+  void setUp() {
+    // 기차 -> 차표/차고/차도, 사과 -> 과일, 차고 -> 고래. 나머지는 이어갈 단어가 없다.
+    WordMapper wordMapper = mock(WordMapper.class);
+    when(wordMapper.getAllWords(anyInt())).thenReturn(List.of());
+    when(wordMapper.getAllWords(0)).thenReturn(
+        List.of(word("기차"), word("과일"), word("고래")));
+    when(wordMapper.getAllWords(9)).thenReturn(List.of(word("사과")));
+    when(wordMapper.getAllWords(14)).thenReturn(
+        List.of(word("차표"), word("차고"), word("차도")));
+
+    dictionaryIndex = new DictionaryIndex(wordMapper, true);
+    dictionaryIndex.load();
+    continuationIndex = new ContinuationIndex(dictionaryIndex);
+    continuationIndex.build();
+  }
+
+  @Test
+  @DisplayName("끝 음절로 이어갈 단어가 있는 단어만 뽑는다")
+  void playableOnlyTest() {
+    StartWordSampler sampler = sampler(true, 0);
+
+    for (int i = 0; i < 200; i++) {
+      assertThat(sampler.next()).isIn("기차", "사과", "차고");
+    }
+  }
+
+  @Test
+  @DisplayName("이어갈 단어 수에 비례해 뽑는다")
+  void weightedTest() {
+    StartWordSampler sampler = sampler(true, 0);
+
+    Map<String, Integer> counts = new HashMap<>();
+    for (int i = 0; i < 10_000; i++) {
+      counts.merge(sampler.next(), 1, Integer::sum);
+    }
+
+    // 기차 3 : 사과 1 : 차고 1
+    assertThat(counts.get("기차")).isBetween(5_600, 6_400);
+    assertThat(counts.get("사과")).isBetween(1_700, 2_300);
+    assertThat(counts.get("차고")).isBetween(1_700, 2_300);
+  }
+
+  @Test
+  @DisplayName("최근에 뽑힌 단어는 창 크기 동안 다시 뽑지 않는다")
+  void recentWindowTest() {
+    StartWordSampler sampler = sampler(false, 2);
+
+    String first = sampler.next();
+    String second = sampler.next();
+    String third = sampler.next();
+
+    assertThat(List.of(first, second, third)).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @DisplayName("사전이 메모리에 없으면 기본 시작 단어를 쓴다")
+  void fallbackTest() {
+    DictionaryIndex disabled = new DictionaryIndex(mock(WordMapper.class), false);
+    StartWordSampler sampler = new StartWordSampler(disabled, new ContinuationIndex(disabled),
+        true, 50);
+    sampler.build();
+
+    assertThat(sampler.isAvailable()).isFalse();
+    assertThat(sampler.next()).isEqualTo(RoomService.START_WORD);
+  }
+
+  private StartWordSampler sampler(boolean weighted, int recentWindow) {
+    StartWordSampler sampler = new StartWordSampler(dictionaryIndex, continuationIndex, weighted,
+        recentWindow, new SplittableRandom(7));
+    sampler.build();
+    return sampler;
+  }
+
+  private static Word word(String text) {
+    Word word = new Word();
+    word.setWord(text);
+    word.setWinningWord(false);
+    return word;
+  }
+}
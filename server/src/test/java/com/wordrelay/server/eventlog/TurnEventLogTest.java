@@ -0,0 +1,135 @@
+package com.wordrelay.server.eventlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wordrelay.server.common.exception.ErrorCode;
+import com.wordrelay.server.eventlog.TurnEventLog.FsyncPolicy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TurnEventLogTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  @DisplayName("기록한 턴을 다시 적용하면 현재 단어, 사용 단어, 점수가 복원된다")
+  void replayTest() throws Exception {
+    TurnEventLog turnEventLog = start(1 << 20);
+    turnEventLog.append(TurnEvent.accepted("lobby", "a", "기차", "기차", 10));
+    turnEventLog.append(TurnEvent.rejected("lobby", "b", "차표", ErrorCode.WORD_ALREADY_USED));
+    turnEventLog.append(TurnEvent.accepted("lobby", "b", "차고", "차고", 10));
+    turnEventLog.append(TurnEvent.accepted("room1", "a", "사과", "사과", 10));
+    turnEventLog.append(TurnEvent.accepted("lobby", "a", "고읍", "시작", 50));
+    turnEventLog.append(TurnEvent.accepted("lobby", "b", "작가", "작가", 10));
+    turnEventLog.stop();
+
+    TurnLogReplay replay = TurnLogReplay.replay(directory);
+
+    assertThat(replay.getAcceptedCount()).isEqualTo(5);
+    assertThat(replay.getRejectedCount()).isEqualTo(1);
+    assertThat(replay.currentWord("lobby")).isEqualTo("작가");
+    assertThat(replay.usedWords("lobby")).containsExactly("작가");
+    assertThat(replay.currentWord("room1")).isEqualTo("사과");
+    assertThat(replay.getScores()).containsEntry("a", 70L).containsEntry("b", 20L);
+  }
+
+  @Test
+  @DisplayName("세그먼트 크기를 넘기면 새 파일로 넘어가고, 읽을 때는 순서대로 이어 붙인다")
+  void segmentRotationTest() throws Exception {
+    TurnEventLog turnEventLog = start(64);
+    for (int i = 0; i < 20; i++) {
+      turnEventLog.append(TurnEvent.accepted("lobby", "a", "기차" + i, "기차" + i, 10));
+      // 한 묶음에 한 건씩 쓰이도록 writer가 비울 때까지 기다린다.
+      while (turnEventLog.getPendingCount() > 0) {
+        Thread.sleep(1);
+      }
+    }
+    turnEventLog.stop();
+
+    List<String> words = new ArrayList<>();
+    TurnLogReader.read(directory, event -> words.add(event.word()));
+
+    assertThat(TurnLogReader.segments(directory).size()).isGreaterThan(1);
+    assertThat(words).hasSize(20).startsWith("기차0").endsWith("기차19");
+  }
+
+  @Test
+  @DisplayName("끝이 잘린 레코드는 건너뛰고 그 앞까지만 읽는다")
+  void truncatedTailTest() throws Exception {
+    TurnEventLog turnEventLog = start(1 << 20);
+    turnEventLog.append(TurnEvent.accepted("lobby", "a", "기차", "기차", 10));
+    turnEventLog.stop();
+    Path segment = TurnLogReader.segments(directory).get(0);
+    Files.write(segment, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+    // 재시작하면 이어 쓰지 않고 새 세그먼트를 연다.
+    TurnEventLog restarted = start(1 << 20);
+    restarted.append(TurnEvent.accepted("lobby", "b", "차표", "차표", 10));
+    restarted.stop();
+
+    TurnLogReplay replay = TurnLogReplay.replay(directory);
+    assertThat(replay.getAcceptedCount()).isEqualTo(2);
+    assertThat(replay.currentWord("lobby")).isEqualTo("차표");
+  }
+
+  @Test
+  @DisplayName("긴 문자열은 UTF-8 문자 경계에서 잘린다")
+  void truncateAtCharacterBoundaryTest() throws Exception {
+    TurnEventLog turnEventLog = start(1 << 20);
+    // 3바이트 문자 400개(1200바이트). 1024바이트에서 자르면 342번째 문자 중간이 된다.
+    turnEventLog.append(TurnEvent.rejected("lobby", "가".repeat(400), "차표",
+        ErrorCode.WORD_ALREADY_USED));
+    turnEventLog.stop();
+
+    List<TurnEvent> events = new ArrayList<>();
+    TurnLogReader.read(directory, events::add);
+
+    assertThat(events).hasSize(1);
+    assertThat(events.get(0).browserId()).isEqualTo("가".repeat(341));
+    assertThat(events.get(0).word()).isEqualTo("차표");
+  }
+
+  @Test
+  @DisplayName("거절 사유는 ErrorCode 이름으로 남기고, 이전 형식의 순번 기록은 그때의 순서로 읽는다")
+  void errorCodeEncodingTest() {
+    ByteBuffer buffer = ByteBuffer.allocate(4096);
+    for (ErrorCode errorCode : ErrorCode.values()) {
+      buffer.clear();
+      assertThat(TurnEvent.rejected("lobby", "a", "차표", errorCode).encode(buffer)).isTrue();
+      buffer.flip();
+      assertThat(TurnEvent.decode(buffer).errorCode()).isEqualTo(errorCode);
+    }
+
+    // 이전 형식: outcome 3 = WORD_ALREADY_USED 순번 + 1, 이름 필드 없음
+    ByteBuffer payload = ByteBuffer.allocate(64);
+    payload.putLong(1L).put((byte) 3).putInt(0);
+    for (String value : new String[] {"lobby", "a", "차표"}) {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      payload.putShort((short) bytes.length).put(bytes);
+    }
+    payload.putShort((short) 0).flip();
+    CRC32C crc = new CRC32C();
+    crc.update(payload.duplicate());
+    buffer.clear();
+    buffer.putInt(payload.remaining()).putInt((int) crc.getValue()).put(payload).flip();
+
+    assertThat(TurnEvent.decode(buffer).errorCode()).isEqualTo(ErrorCode.WORD_ALREADY_USED);
+  }
+
+  private TurnEventLog start(long segmentBytes) {
+    TurnEventLog turnEventLog = new TurnEventLog(true, directory.toString(), segmentBytes, 1024,
+        FsyncPolicy.ALWAYS, 1000);
+    turnEventLog.start();
+    return turnEventLog;
+  }
+}
@@ -0,0 +1,95 @@
+package com.wordrelay.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyChar;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wordrelay.server.common.exception.ErrorCode;
+import com.wordrelay.server.common.response.ApiResponse;
+import com.wordrelay.server.dictionary.RetrogradeSolver;
+import com.wordrelay.server.dto.WordMessage;
+import com.wordrelay.server.dto.WordResultResponse;
+import com.wordrelay.server.model.Room;
+import com.wordrelay.server.repository.GameStateRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class BotServiceTest {
+
+  private final Room room = Room.of("bot1", true);
+  private RetrogradeSolver retrogradeSolver;
+  private GameService gameService;
+  private GameStateRepository gameStateRepository;
+  private UsedWordRegistry usedWordRegistry;
+  private SimpMessagingTemplate messagingTemplate;
+  private BotService botService;
+
+  @BeforeEach
+  void setUp() {
+    retrogradeSolver = mock(RetrogradeSolver.class);
+    when(retrogradeSolver.isAvailable()).thenReturn(true);
+    when(retrogradeSolver.bestMove('차')).thenReturn("차표");
+    when(retrogradeSolver.randomMove(anyChar(), any())).thenReturn("차고");
+    RoomService roomService = mock(RoomService.class);
+    when(roomService.findRoom("bot1")).thenReturn(room);
+    gameService = mock(GameService.class);
+    gameStateRepository = mock(GameStateRepository.class);
+    usedWordRegistry = new UsedWordRegistry(gameStateRepository, 1000, 0.01);
+    messagingTemplate = mock(SimpMessagingTemplate.class);
+    botService = new BotService(retrogradeSolver, roomService, gameService, usedWordRegistry,
+        messagingTemplate, 1.0, 0);
+  }
+
+  @AfterEach
+  void tearDown() {
+    botService.shutdown();
+  }
+
+  @Test
+  @DisplayName("다른 노드가 먼저 쓴 단어는 필터를 처음 만들 때 Redis에서 채워져 고르지 않는다")
+  void seededFilterTest() {
+    when(gameStateRepository.getUsedWords(room)).thenReturn(Set.of("차표"));
+
+    assertThat(usedWordRegistry.mightBeUsed(room, "차표")).isTrue();
+    assertThat(botService.chooseMove(room, "기차")).isEqualTo("차고");
+  }
+
+  @Test
+  @DisplayName("이미 쓰인 단어로 거절되면 다른 후보로 다시 둔다")
+  void retryAfterAlreadyUsedTest() {
+    when(gameStateRepository.getUsedWords(room)).thenReturn(Set.of());
+    ApiResponse<WordResultResponse> accepted = ApiResponse.success(
+        new WordResultResponse(true, "차고", "ok"));
+    when(gameService.sendWord(eq("bot1"), any(WordMessage.class))).thenAnswer(invocation -> {
+      WordMessage message = invocation.getArgument(1);
+      if (message.getWord().equals("차표")) {
+        // 커밋 스크립트가 ALREADY_USED를 돌려줄 때 GameService가 하는 일
+        usedWordRegistry.markUsed(room, "차표");
+        return ApiResponse.error(ErrorCode.WORD_ALREADY_USED);
+      }
+      return accepted;
+    });
+
+    botService.onTurnAccepted("bot1", "human", "기차");
+
+    verify(messagingTemplate, timeout(5000)).convertAndSend(room.destination("word"), accepted);
+    ArgumentCaptor<WordMessage> sent = ArgumentCaptor.forClass(WordMessage.class);
+    verify(gameService, times(2)).sendWord(eq("bot1"), sent.capture());
+    List<String> words = new ArrayList<>();
+    sent.getAllValues().forEach(message -> words.add(message.getWord()));
+    assertThat(words).containsExactly("차표", "차고");
+  }
+}
@@ -0,0 +1,83 @@
+package com.wordrelay.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wordrelay.server.model.Room;
+import com.wordrelay.server.repository.GameStateRepository;
+import com.wordrelay.server.repository.VersionedWord;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CurrentWordCacheTest {
+
+  private final AtomicLong now = new AtomicLong(1_000_000);
+  private final Room room = Room.lobby();
+  private GameStateRepository gameStateRepository;
+  private CurrentWordCache cache;
+
+  @BeforeEach
+  void setUp() {
+    gameStateRepository = mock(GameStateRepository.class);
+    when(gameStateRepository.getVersionedCurrentWord(room)).thenReturn(new VersionedWord("시작", 3));
+    cache = new CurrentWordCache(gameStateRepository, true, 1000, 30000, now::get);
+  }
+
+  @Test
+  @DisplayName("ttl 안에서는 Redis를 다시 읽지 않고, 지나면 다시 읽는다")
+  void ttlTest() {
+    assertThat(cache.get(room).word()).isEqualTo("시작");
+    assertThat(cache.get(room).word()).isEqualTo("시작");
+    verify(gameStateRepository, times(1)).getVersionedCurrentWord(room);
+
+    now.addAndGet(1000);
+    cache.get(room);
+
+    verify(gameStateRepository, times(2)).getVersionedCurrentWord(room);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("변경 알림은 버전이 더 높을 때만 반영된다")
+  void versionTest() {
+    cache.get(room);
+
+    cache.onChange(room.getRoomId(), 2, "옛날");
+    assertThat(cache.get(room)).isEqualTo(new VersionedWord("시작", 3));
+
+    cache.onChange(room.getRoomId(), 4, "작전");
+    assertThat(cache.get(room)).isEqualTo(new VersionedWord("작전", 4));
+  }
+
+  @Test
+  @DisplayName("기다리던 요청은 변경 알림이 오면 새 단어로 깨어난다")
+  void awaitChangeTest() {
+    String etag = cache.get(room).etag();
+
+    CompletableFuture<VersionedWord> waiter = cache.awaitChange(room, etag);
+    assertThat(waiter).isNotDone();
+    assertThat(cache.getWaiterCount()).isEqualTo(1);
+
+    cache.onChange(room.getRoomId(), 4, "작전");
+
+    assertThat(waiter).isCompletedWithValue(new VersionedWord("작전", 4));
+    assertThat(cache.getWaiterCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("ETag가 이미 다르면 바로 돌려주고, 취소된 요청은 대기 목록에서 빠진다")
+  void staleEtagAndCancelTest() {
+    assertThat(cache.awaitChange(room, "\"0-0\"")).isCompletedWithValue(new VersionedWord("시작", 3));
+
+    CompletableFuture<VersionedWord> waiter = cache.awaitChange(room, cache.get(room).etag());
+    waiter.cancel(false);
+
+    assertThat(cache.getWaiterCount()).isZero();
+  }
+}
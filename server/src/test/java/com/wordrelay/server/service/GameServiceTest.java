@@ -0,0 +1,244 @@
+package com.wordrelay.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wordrelay.server.common.exception.ErrorCode;
+import com.wordrelay.server.common.response.ApiResponse;
+import com.wordrelay.server.dictionary.ContinuationIndex;
+import com.wordrelay.server.dictionary.DictionaryIndex;
+import com.wordrelay.server.dictionary.StartWordSampler;
+import com.wordrelay.server.dto.WordMessage;
+import com.wordrelay.server.dto.WordResultResponse;
+import com.wordrelay.server.mapper.WordMapper;
+import com.wordrelay.server.eventlog.TurnEventLog;
+import com.wordrelay.server.metrics.GameMetrics;
+import com.wordrelay.server.model.Room;
+import com.wordrelay.server.model.Word;
+import com.wordrelay.server.repository.GameStateRepository;
+import com.wordrelay.server.repository.TurnResult;
+import com.wordrelay.server.util.HangulUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameServiceTest {
+
+  private GameStateRepository gameStateRepository;
+  private HangulUtil hangulUtil;
+  private GameService gameService;
+  private UsedWordRegistry usedWordRegistry;
+  private UserService userService;
+  private SimpleMeterRegistry meterRegistry;
+  private Room lobby;
+
+  @BeforeEach
+  void setUp() {
+    gameStateRepository = mock(GameStateRepository.class);
+    hangulUtil = mock(HangulUtil.class);
+    usedWordRegistry = new UsedWordRegistry(gameStateRepository, 1000, 0.01);
+    RoomService roomService = new RoomService(gameStateRepository, usedWordRegistry,
+        Duration.ofMinutes(30));
+    DictionaryIndex dictionaryIndex = new DictionaryIndex(mock(WordMapper.class), false);
+    ContinuationIndex continuationIndex = new ContinuationIndex(dictionaryIndex);
+    userService = mock(UserService.class);
+    meterRegistry = new SimpleMeterRegistry();
+    gameService = new GameService(gameStateRepository, hangulUtil, roomService,
+        usedWordRegistry, continuationIndex, userService, new GameMetrics(meterRegistry),
+        new StartWordSampler(dictionaryIndex, continuationIndex, true, 50),
+        TurnEventLog.disabled());
+    lobby = roomService.getDefaultRoom();
+
+    when(gameStateRepository.getCurrentWord(lobby)).thenReturn("기차");
+  }
+
+  @Test
+  @DisplayName("규칙에 맞는 단어는 현재 단어를 갱신한다")
+  void acceptWordTest() {
+    when(hangulUtil.getWord("차표")).thenReturn(word("차표", false));
+    when(gameStateRepository.commitTurn(lobby, "기차", "차표", "차표", "browser", 10))
+        .thenReturn(TurnResult.ACCEPTED);
+
+    ApiResponse<WordResultResponse> response = gameService.sendWord(message("차표"));
+
+    assertThat(response.getCode()).isEqualTo(200);
+    assertThat(response.getData().getCurrentWord()).isEqualTo("차표");
+    assertThat(meterRegistry.get("wordrelay.turn.outcome").tag("outcome", "ACCEPTED")
+        .counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("wordrelay.turn.stage").tag("stage", "commit")
+        .timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("write-behind 모드에서는 점수를 스크립트 대신 점수 버퍼로 보낸다")
+  void writeBehindScoreTest() {
+    when(userService.isWriteBehind()).thenReturn(true);
+    when(hangulUtil.getWord("차표")).thenReturn(word("차표", false));
+    when(gameStateRepository.commitTurn(lobby, "기차", "차표", "차표", "browser", 0))
+        .thenReturn(TurnResult.ACCEPTED);
+
+    ApiResponse<WordResultResponse> response = gameService.sendWord(message("차표"));
+
+    assertThat(response.getCode()).isEqualTo(200);
+    verify(userService).addScore("browser", 10);
+  }
+
+  @Test
+  @DisplayName("같은 단어에 먼저 답한 플레이어가 있으면 거절한다")
+  void alreadyAnsweredTest() {
+    when(hangulUtil.getWord("차표")).thenReturn(word("차표", false));
+    when(gameStateRepository.commitTurn(lobby, "기차", "차표", "차표", "browser", 10))
+        .thenReturn(TurnResult.ALREADY_ANSWERED);
+
+    ApiResponse<WordResultResponse> response = gameService.sendWord(message("차표"));
+
+    assertThat(response.getCode()).isEqualTo(ErrorCode.WORD_ALREADY_ANSWERED.getCode());
+    assertThat(response.getData()).isNull();
+    assertThat(meterRegistry.get("wordrelay.turn.outcome")
+        .tag("outcome", "WORD_ALREADY_ANSWERED").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("끝말이 이어지지 않으면 저장소를 갱신하지 않는다")
+  void notFollowingRulesTest() {
+    ApiResponse<WordResultResponse> response = gameService.sendWord(message("사과"));
+
+    assertThat(response.getCode()).isEqualTo(ErrorCode.NOT_FOLLOWING_RULES.getCode());
+    verify(gameStateRepository, never())
+        .commitTurn(any(), anyString(), anyString(), anyString(), anyString(), anyInt());
+  }
+
+  @Test
+  @DisplayName("이번 라운드에 이미 사용된 단어는 거절한다")
+  void alreadyUsedTest() {
+    when(hangulUtil.getWord("차표")).thenReturn(word("차표", false));
+    when(gameStateRepository.isUsedWord(lobby, "차표")).thenReturn(true);
+    usedWordRegistry.markUsed(lobby, "차표");
+
+    ApiResponse<WordResultResponse> response = gameService.sendWord(message("차표"));
+
+    assertThat(response.getCode()).isEqualTo(ErrorCode.WORD_ALREADY_USED.getCode());
+    verify(gameStateRepository, never())
+        .commitTurn(any(), anyString(), anyString(), anyString(), anyString(), anyInt());
+  }
+
+  @Test
+  @DisplayName("한방단어를 입력하면 시작 단어로 초기화하고 새 라운드를 시작한다")
+  void winningWordResetsRoundTest() {
+    when(hangulUtil.getWord("차읓")).thenReturn(word("차읓", true));
+    when(gameStateRepository.commitTurn(lobby, "기차", "차읓", RoomService.START_WORD, "browser", 50))
+        .thenReturn(TurnResult.ACCEPTED);
+
+    ApiResponse<WordResultResponse> response = gameService.sendWord(message("차읓"));
+
+    assertThat(response.getData().getCurrentWord()).isEqualTo(RoomService.START_WORD);
+    assertThat(usedWordRegistry.isUsed(lobby, "차읓")).isFalse();
+  }
+
+  @Test
+  @DisplayName("다른 노드의 커밋 알림으로 사용 단어를 표시하고, 새 라운드 알림이 오면 필터를 비운다")
+  void remoteCommitNoticeTest() {
+    usedWordRegistry.markUsed(lobby, "기차");
+
+    usedWordRegistry.onCommitted(lobby.getRoomId(), "차표", false);
+    assertThat(usedWordRegistry.mightBeUsed(lobby, "기차")).isTrue();
+    assertThat(usedWordRegistry.mightBeUsed(lobby, "차표")).isTrue();
+
+    usedWordRegistry.onCommitted(lobby.getRoomId(), RoomService.START_WORD, true);
+    assertThat(usedWordRegistry.mightBeUsed(lobby, "기차")).isFalse();
+    assertThat(usedWordRegistry.mightBeUsed(lobby, "차표")).isFalse();
+  }
+
+  @Test
+  @DisplayName("두음법칙을 적용한 첫 음절도 이어진 것으로 본다")
+  void dueumRuleTest() {
+    when(gameStateRepository.getCurrentWord(lobby)).thenReturn("능력");
+    when(hangulUtil.getWord("역사")).thenReturn(word("역사", false));
+    when(gameStateRepository.commitTurn(lobby, "능력", "역사", "역사", "browser", 10))
+        .thenReturn(TurnResult.ACCEPTED);
+
+    ApiResponse<WordResultResponse> response = gameService.sendWord(message("역사"));
+
+    assertThat(response.getCode()).isEqualTo(200);
+    assertThat(response.getData().getCurrentWord()).isEqualTo("역사");
+  }
+
+  @Test
+  @DisplayName("Redis의 방 키가 만료되어 현재 단어가 없으면 방이 없는 것으로 거절한다")
+  void expiredRoomTest() {
+    when(gameStateRepository.getCurrentWord(lobby)).thenReturn(null);
+
+    ApiResponse<WordResultResponse> response = gameService.sendWord(message("차표"));
+
+    assertThat(response.getCode()).isEqualTo(ErrorCode.ROOM_NOT_FOUND.getCode());
+    verify(hangulUtil, never()).getWord(anyString());
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 방으로 보낸 단어는 거절한다")
+  void roomNotFoundTest() {
+    ApiResponse<WordResultResponse> response = gameService.sendWord("unknown", message("차표"));
+
+    assertThat(response.getCode()).isEqualTo(ErrorCode.ROOM_NOT_FOUND.getCode());
+  }
+
+  @Test
+  @DisplayName("비동기 파이프라인도 조회를 마친 뒤 같은 규칙으로 턴을 확정한다")
+  void asyncAcceptWordTest() {
+    CompletableFuture<String> currentWord = new CompletableFuture<>();
+    when(gameStateRepository.getCurrentWordAsync(lobby)).thenReturn(currentWord);
+    when(hangulUtil.getWordAsync("차표"))
+        .thenReturn(CompletableFuture.completedFuture(word("차표", false)));
+    when(gameStateRepository.commitTurnAsync(lobby, "기차", "차표", "차표", "browser", 10))
+        .thenReturn(CompletableFuture.completedFuture(TurnResult.ACCEPTED));
+
+    CompletableFuture<ApiResponse<WordResultResponse>> response =
+        gameService.sendWordAsync(Room.DEFAULT_ROOM_ID, message("차표"));
+    assertThat(response).isNotDone();
+
+    currentWord.complete("기차");
+
+    assertThat(response.join().getCode()).isEqualTo(200);
+    assertThat(response.join().getData().getCurrentWord()).isEqualTo("차표");
+    verify(userService).onScoreCommitted("browser", 10);
+  }
+
+  @Test
+  @DisplayName("비동기 파이프라인에서 끝말이 이어지지 않으면 커밋하지 않는다")
+  void asyncNotFollowingRulesTest() {
+    when(gameStateRepository.getCurrentWordAsync(lobby))
+        .thenReturn(CompletableFuture.completedFuture("기차"));
+    when(hangulUtil.getWordAsync("사과"))
+        .thenReturn(CompletableFuture.completedFuture(word("사과", false)));
+
+    ApiResponse<WordResultResponse> response =
+        gameService.sendWordAsync(Room.DEFAULT_ROOM_ID, message("사과")).join();
+
+    assertThat(response.getCode()).isEqualTo(ErrorCode.NOT_FOLLOWING_RULES.getCode());
+    verify(gameStateRepository, never()).commitTurnAsync(any(), any(), any(), any(), any(),
+        anyInt());
+  }
+
+  private static WordMessage message(String text) {
+    WordMessage message = new WordMessage();
+    message.setWord(text);
+    message.setBrowserId("browser");
+    return message;
+  }
+
+  private static Word word(String text, boolean winning) {
+    Word word = new Word();
+    word.setWord(text);
+    word.setWinningWord(winning);
+    return word;
+  }
+}
@@ -0,0 +1,137 @@
+package com.wordrelay.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wordrelay.server.config.RedisConfig;
+import com.wordrelay.server.dto.LeaderboardUpdate;
+import com.wordrelay.server.dto.RankingEntry;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class LeaderboardServiceTest {
+
+  private SimpMessagingTemplate messagingTemplate;
+  private LeaderboardService leaderboardService;
+  private ZSetOperations<String, String> zSetOperations;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    RedisTemplate<String, String> sessionTemplate = mock(RedisTemplate.class);
+    ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    when(sessionTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.multiGet(anyCollection())).thenAnswer(invocation ->
+        ((List<String>) invocation.getArgument(0)).stream()
+            .map(key -> "닉네임-" + key.substring(RedisConfig.SESSION_KEY_PREFIX.length())).toList());
+
+    messagingTemplate = mock(SimpMessagingTemplate.class);
+    RedisTemplate<String, String> leaderboardTemplate = mock(RedisTemplate.class);
+    zSetOperations = mock(ZSetOperations.class);
+    when(leaderboardTemplate.opsForZSet()).thenReturn(zSetOperations);
+    leaderboardService = new LeaderboardService(leaderboardTemplate, sessionTemplate,
+        messagingTemplate, 3);
+  }
+
+  @Test
+  @DisplayName("상위 N명은 점수 이벤트로 바로 갱신하고 내 순위를 캐시에서 돌려준다")
+  void rankTest() {
+    resync(Set.of(TypedTuple.of("a", 10.0), TypedTuple.of("b", 50.0)), 2);
+    leaderboardService.onScore("a", 60);
+    when(zSetOperations.reverseRank("game:users", "unknown")).thenReturn(null);
+    when(zSetOperations.score("game:users", "unknown")).thenReturn(null);
+
+    leaderboardService.broadcast();
+
+    assertThat(leaderboardService.getRank("a").getRank()).isEqualTo(1);
+    assertThat(leaderboardService.getRank("a").getScore()).isEqualTo(70);
+    assertThat(leaderboardService.getRank("b").getRank()).isEqualTo(2);
+    assertThat(leaderboardService.getRank("a").getTotal()).isEqualTo(2);
+    assertThat(leaderboardService.getRank("unknown").getRank()).isZero();
+    assertThat(leaderboardService.getTopRankings()).extracting(RankingEntry::getName)
+        .containsExactly("닉네임-a", "닉네임-b");
+    verify(zSetOperations, never()).reverseRank("game:users", "a");
+  }
+
+  @Test
+  @DisplayName("바뀐 순위만 방송하고 점수 변화가 없으면 방송하지 않는다")
+  void diffBroadcastTest() {
+    resync(Set.of(TypedTuple.of("a", 50.0), TypedTuple.of("b", 10.0)), 2);
+    leaderboardService.broadcast();
+
+    leaderboardService.onScore("b", 5);
+    leaderboardService.broadcast();
+    leaderboardService.broadcast();
+
+    ArgumentCaptor<LeaderboardUpdate> captor = ArgumentCaptor.forClass(LeaderboardUpdate.class);
+    verify(messagingTemplate, times(2)).convertAndSend(eq("/game/leaderboard"), captor.capture());
+    LeaderboardUpdate update = captor.getAllValues().get(1);
+    assertThat(update.getChanged()).containsExactly(new RankingEntry(2, "닉네임-b", 15));
+    assertThat(update.getSize()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("상위 N명만 읽어 유지하고, 다른 노드 점수에 밀려난 사용자는 빠진다")
+  void boundedTopTest() {
+    resync(Set.of(TypedTuple.of("a", 40.0), TypedTuple.of("b", 30.0), TypedTuple.of("c", 20.0)),
+        4);
+    leaderboardService.onScore("d", 10);
+    leaderboardService.broadcast();
+
+    assertThat(leaderboardService.getTopRankings()).extracting(RankingEntry::getName)
+        .containsExactly("닉네임-a", "닉네임-b", "닉네임-c");
+
+    resync(Set.of(TypedTuple.of("a", 40.0), TypedTuple.of("b", 30.0), TypedTuple.of("d", 25.0)),
+        4);
+    leaderboardService.broadcast();
+
+    assertThat(leaderboardService.getTopRankings()).extracting(RankingEntry::getName)
+        .containsExactly("닉네임-a", "닉네임-b", "닉네임-d");
+    verify(zSetOperations, never()).rangeWithScores("game:users", 0, -1);
+  }
+
+  @Test
+  @DisplayName("동기화 결과는 라이브 점수에 합쳐지고 상위 N명 밖의 순위는 ZREVRANK로 답한다")
+  void resyncMergeTest() {
+    resync(Set.of(TypedTuple.of("a", 10.0)), 1);
+    // Redis 값을 읽은 뒤 합치기 전에 들어온 증가분도 남아야 한다.
+    when(zSetOperations.reverseRangeWithScores("game:users", 0, 2)).thenAnswer(invocation -> {
+      leaderboardService.onScore("a", 5);
+      return Set.of(TypedTuple.of("b", 50.0), TypedTuple.of("c", 40.0),
+          TypedTuple.of("a", 10.0));
+    });
+    when(zSetOperations.zCard("game:users")).thenReturn(5L);
+    when(zSetOperations.reverseRank("game:users", "e")).thenReturn(4L);
+    when(zSetOperations.score("game:users", "e")).thenReturn(1.0);
+
+    leaderboardService.resync();
+
+    assertThat(leaderboardService.getRank("a").getScore()).isEqualTo(15);
+    assertThat(leaderboardService.getRank("a").getRank()).isEqualTo(3);
+    assertThat(leaderboardService.getRank("b").getRank()).isEqualTo(1);
+    assertThat(leaderboardService.getRank("e").getRank()).isEqualTo(5);
+    assertThat(leaderboardService.getRank("e").getScore()).isEqualTo(1);
+    assertThat(leaderboardService.getRank("e").getTotal()).isEqualTo(5);
+  }
+
+  private void resync(Set<TypedTuple<String>> top, long total) {
+    when(zSetOperations.reverseRangeWithScores("game:users", 0, 2)).thenReturn(top);
+    when(zSetOperations.zCard("game:users")).thenReturn(total);
+    leaderboardService.resync();
+  }
+}
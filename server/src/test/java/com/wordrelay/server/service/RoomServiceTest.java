@@ -0,0 +1,49 @@
+package com.wordrelay.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.wordrelay.server.model.Room;
+import com.wordrelay.server.repository.GameStateRepository;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+class RoomServiceTest {
+
+  private RoomService roomService;
+
+  @BeforeEach
+  void setUp() {
+    GameStateRepository gameStateRepository = mock(GameStateRepository.class);
+    roomService = new RoomService(gameStateRepository,
+        new UsedWordRegistry(gameStateRepository, 1000, 0.01), Duration.ofMinutes(30));
+  }
+
+  @Test
+  @DisplayName("세션이 끊기면 멤버에서 빠지고, 같은 브라우저의 다른 세션이 남아 있으면 그대로 둔다")
+  void disconnectTest() {
+    roomService.join(Room.DEFAULT_ROOM_ID, "a", "s1");
+    roomService.join(Room.DEFAULT_ROOM_ID, "a", "s2");
+    roomService.join(Room.DEFAULT_ROOM_ID, "b", "s3");
+    Room lobby = roomService.getDefaultRoom();
+
+    roomService.onDisconnect(disconnect("s1"));
+    roomService.onDisconnect(disconnect("s3"));
+    // 같은 세션의 끊김 이벤트가 두 번 와도 한 번만 뺀다.
+    roomService.onDisconnect(disconnect("s1"));
+    assertThat(lobby.getMembers()).containsExactly("a");
+
+    roomService.onDisconnect(disconnect("s2"));
+    assertThat(lobby.getMembers()).isEmpty();
+  }
+
+  private static SessionDisconnectEvent disconnect(String sessionId) {
+    return new SessionDisconnectEvent(new Object(), MessageBuilder.withPayload(new byte[0]).build(),
+        sessionId, CloseStatus.NORMAL);
+  }
+}
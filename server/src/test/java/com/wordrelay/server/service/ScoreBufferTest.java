@@ -0,0 +1,103 @@
+package com.wordrelay.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class ScoreBufferTest {
+
+  @SuppressWarnings("unchecked")
+  private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+
+  @Test
+  @DisplayName("같은 사용자의 점수 증가분을 합쳐서 보관한다")
+  void coalesceTest() {
+    ScoreBuffer scoreBuffer = new ScoreBuffer(redisTemplate, 100);
+
+    scoreBuffer.add("browser", 10);
+    scoreBuffer.add("browser", 50);
+    scoreBuffer.add("other", 10);
+
+    assertThat(scoreBuffer.pendingScore("browser")).isEqualTo(60);
+    assertThat(scoreBuffer.pendingSize()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("flush에 성공하면 대기 중인 점수를 비운다")
+  void flushTest() {
+    when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(10.0));
+    ScoreBuffer scoreBuffer = new ScoreBuffer(redisTemplate, 100);
+    scoreBuffer.add("browser", 10);
+
+    scoreBuffer.flush();
+
+    assertThat(scoreBuffer.pendingScore("browser")).isZero();
+  }
+
+  @Test
+  @DisplayName("Redis 반영이 끝나기 전까지는 대기 중인 점수가 그대로 보인다")
+  void pendingUntilConfirmedTest() {
+    ScoreBuffer scoreBuffer = new ScoreBuffer(redisTemplate, 100);
+    scoreBuffer.add("browser", 10);
+    when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+      assertThat(scoreBuffer.pendingScore("browser")).isEqualTo(10);
+      scoreBuffer.add("browser", 50);
+      return List.of(10.0);
+    });
+
+    scoreBuffer.flush();
+
+    assertThat(scoreBuffer.pendingScore("browser")).isEqualTo(50);
+  }
+
+  @Test
+  @DisplayName("파이프라인 일부만 실패하면 실패한 사용자의 증가분만 남긴다")
+  void partialFailureTest() {
+    ScoreBuffer scoreBuffer = new ScoreBuffer(redisTemplate, 100);
+    scoreBuffer.add("a", 10);
+    scoreBuffer.add("b", 20);
+    // 버퍼와 같은 순서로 순회하도록 같은 크기의 ConcurrentHashMap으로 결과 순서를 맞춘다.
+    Map<String, Long> order = new ConcurrentHashMap<>();
+    order.put("a", 10L);
+    order.put("b", 20L);
+    when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+      List<Object> results = new ArrayList<>();
+      for (String member : order.keySet()) {
+        results.add(member.equals("a") ? 10.0 : new RedisSystemException("WRONGTYPE", null));
+      }
+      throw new RedisPipelineException(new RuntimeException("failed"), results);
+    });
+
+    scoreBuffer.flush();
+
+    assertThat(scoreBuffer.pendingScore("a")).isZero();
+    assertThat(scoreBuffer.pendingScore("b")).isEqualTo(20);
+  }
+
+  @Test
+  @DisplayName("flush에 실패하면 증가분을 다시 쌓아둔다")
+  void flushFailureTest() {
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenThrow(new RedisConnectionFailureException("down"));
+    ScoreBuffer scoreBuffer = new ScoreBuffer(redisTemplate, 100);
+    scoreBuffer.add("browser", 10);
+
+    scoreBuffer.flush();
+    scoreBuffer.add("browser", 50);
+
+    assertThat(scoreBuffer.pendingScore("browser")).isEqualTo(60);
+  }
+}
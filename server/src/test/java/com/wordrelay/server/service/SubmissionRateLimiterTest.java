@@ -0,0 +1,74 @@
+package com.wordrelay.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SubmissionRateLimiterTest {
+
+  private final AtomicLong now = new AtomicLong(1_000_000);
+
+  @Test
+  @DisplayName("버킷 용량만큼만 통과하고 시간이 지나면 다시 채워진다")
+  void capacityAndRefillTest() {
+    SubmissionRateLimiter limiter = new SubmissionRateLimiter(true, 3, 2, 100, now::get);
+
+    assertThat(limiter.tryAcquire("browser", "session")).isTrue();
+    assertThat(limiter.tryAcquire("browser", "session")).isTrue();
+    assertThat(limiter.tryAcquire("browser", "session")).isTrue();
+    assertThat(limiter.tryAcquire("browser", "session")).isFalse();
+    assertThat(limiter.getThrottledCount()).isEqualTo(1);
+
+    now.addAndGet(500);
+
+    assertThat(limiter.tryAcquire("browser", "session")).isTrue();
+    assertThat(limiter.tryAcquire("browser", "session")).isFalse();
+  }
+
+  @Test
+  @DisplayName("browserId를 바꿔도 같은 세션이면 제한된다")
+  void sessionKeyTest() {
+    SubmissionRateLimiter limiter = new SubmissionRateLimiter(true, 2, 1, 100, now::get);
+
+    assertThat(limiter.tryAcquire("a", "session")).isTrue();
+    assertThat(limiter.tryAcquire("b", "session")).isTrue();
+    assertThat(limiter.tryAcquire("c", "session")).isFalse();
+    assertThat(limiter.tryAcquire("c", "other")).isTrue();
+  }
+
+  @Test
+  @DisplayName("browserId 버킷이 막으면 세션 버킷에서 꺼낸 토큰은 돌려준다")
+  void refundOnDenyTest() {
+    SubmissionRateLimiter limiter = new SubmissionRateLimiter(true, 2, 1, 100, now::get);
+
+    assertThat(limiter.tryAcquire("a", "s1")).isTrue();
+    assertThat(limiter.tryAcquire("a", "s2")).isTrue();
+    assertThat(limiter.tryAcquire("a", "s3")).isFalse();
+
+    assertThat(limiter.tryAcquire("b", "s3")).isTrue();
+    assertThat(limiter.tryAcquire("c", "s3")).isTrue();
+  }
+
+  @Test
+  @DisplayName("다시 가득 찬 버킷은 지워지고 키 수는 한도를 넘지 않는다")
+  void evictionTest() {
+    SubmissionRateLimiter limiter = new SubmissionRateLimiter(true, 1, 1, 4, now::get);
+
+    assertThat(limiter.tryAcquire("a", "s1")).isTrue();
+    assertThat(limiter.tryAcquire("b", "s2")).isTrue();
+    assertThat(limiter.tryAcquire("c", "s3")).isFalse();
+    assertThat(limiter.getRejectedByCapacityCount()).isEqualTo(1);
+    assertThat(limiter.getTrackedKeys()).isEqualTo(4);
+
+    now.addAndGet(1_000);
+    // 요청 스레드는 정리하지 않으므로 스케줄된 정리 전에는 여전히 받지 않는다.
+    assertThat(limiter.tryAcquire("c", "s3")).isFalse();
+    limiter.evictIdle();
+
+    assertThat(limiter.tryAcquire("c", "s3")).isTrue();
+    assertThat(limiter.getEvictedCount()).isEqualTo(4);
+    assertThat(limiter.getTrackedKeys()).isEqualTo(2);
+  }
+}
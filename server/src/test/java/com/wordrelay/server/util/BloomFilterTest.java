@@ -0,0 +1,41 @@
+package com.wordrelay.server.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+  @Test
+  @DisplayName("넣은 단어는 항상 포함된다고 판단한다")
+  void noFalseNegativeTest() {
+    BloomFilter filter = new BloomFilter(1000, 0.01);
+    for (int i = 0; i < 1000; i++) {
+      filter.put("단어" + i);
+    }
+
+    for (int i = 0; i < 1000; i++) {
+      assertThat(filter.mightContain("단어" + i)).isTrue();
+    }
+    assertThat(filter.getInsertions()).isEqualTo(1000);
+  }
+
+  @Test
+  @DisplayName("오탐률이 설정값 근처로 유지된다")
+  void falsePositiveRateTest() {
+    BloomFilter filter = new BloomFilter(1000, 0.01);
+    for (int i = 0; i < 1000; i++) {
+      filter.put("단어" + i);
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 10000; i++) {
+      if (filter.mightContain("다른단어" + i)) {
+        falsePositives++;
+      }
+    }
+    assertThat(falsePositives / 10000.0).isLessThan(0.03);
+    assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.03);
+  }
+}
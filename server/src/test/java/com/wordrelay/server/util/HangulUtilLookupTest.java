@@ -0,0 +1,88 @@
+package com.wordrelay.server.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wordrelay.server.dictionary.DictionaryIndex;
+import com.wordrelay.server.mapper.WordMapper;
+import com.wordrelay.server.model.Word;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class HangulUtilLookupTest {
+
+  private final WordMapper wordMapper = mock(WordMapper.class);
+  private final DictionaryIndex dictionaryIndex = new DictionaryIndex(wordMapper, false);
+  private final HangulUtil hangulUtil = new HangulUtil(wordMapper, dictionaryIndex);
+
+  @Test
+  @DisplayName("여러 단어를 한 번의 쿼리로 조회하고 IN 목록 길이를 2의 거듭제곱으로 맞춘다")
+  @SuppressWarnings("unchecked")
+  void batchedLookupTest() {
+    when(wordMapper.getWords(anyCollection())).thenReturn(List.of(word("가방"), word("기차")));
+
+    Map<String, Word> found = hangulUtil.getWords(List.of("가방", "기차", "차표", "가방", "apple"));
+
+    ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+    verify(wordMapper).getWords(captor.capture());
+    assertThat(captor.getValue()).hasSize(4).containsOnly("가방", "기차", "차표");
+    assertThat(found).containsOnlyKeys("가방", "기차");
+  }
+
+  @Test
+  @DisplayName("한글 단어가 없으면 DB를 조회하지 않는다")
+  void emptyLookupTest() {
+    assertThat(hangulUtil.getWords(List.of("apple", ""))).isEmpty();
+    verify(wordMapper, never()).getWords(anyCollection());
+  }
+
+  @Test
+  @DisplayName("인덱스가 꺼져 있으면 동시에 들어온 단건 조회를 IN 쿼리 하나로 묶는다")
+  void coalescedLookupTest() throws Exception {
+    CountDownLatch firstQuery = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(wordMapper.getWords(anyCollection())).thenAnswer(invocation -> {
+      Collection<String> words = invocation.getArgument(0);
+      if (words.contains("가방")) {
+        firstQuery.countDown();
+        release.await();
+      }
+      return words.stream().distinct().filter(text -> !text.equals("차표"))
+          .map(HangulUtilLookupTest::word).toList();
+    });
+
+    CompletableFuture<Word> first = hangulUtil.getWordAsync("가방");
+    assertThat(firstQuery.await(5, TimeUnit.SECONDS)).isTrue();
+    List<CompletableFuture<Word>> rest = Stream.of("기차", "차표", "표범")
+        .map(hangulUtil::getWordAsync).toList();
+    release.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS).getWord()).isEqualTo("가방");
+    assertThat(rest.get(0).get(5, TimeUnit.SECONDS).getWord()).isEqualTo("기차");
+    assertThat(rest.get(1).get(5, TimeUnit.SECONDS)).isNull();
+    assertThat(rest.get(2).get(5, TimeUnit.SECONDS).getWord()).isEqualTo("표범");
+    verify(wordMapper, times(2)).getWords(anyCollection());
+    verify(wordMapper, never()).getWord(anyString());
+  }
+
+  private static Word word(String text) {
+    Word word = new Word();
+    word.setWord(text);
+    word.setWinningWord(false);
+    return word;
+  }
+}
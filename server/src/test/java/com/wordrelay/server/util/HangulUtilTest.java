@@ -0,0 +1,60 @@
+package com.wordrelay.server.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HangulUtilTest {
+
+  @Test
+  @DisplayName("음절을 초성, 중성, 종성으로 분리한다")
+  void decomposeTest() {
+    assertThat(HangulUtil.choseong('닭')).isEqualTo('ㄷ');
+    assertThat(HangulUtil.jungseong('닭')).isEqualTo('ㅏ');
+    assertThat(HangulUtil.jongseong('닭')).isEqualTo('ㄺ');
+    assertThat(HangulUtil.jongseong('가')).isEqualTo((char) 0);
+  }
+
+  @Test
+  @DisplayName("인덱스로 음절을 조합한다")
+  void composeTest() {
+    char syllable = '힣';
+    char composed = HangulUtil.compose(HangulUtil.choseongIndex(syllable),
+        HangulUtil.jungseongIndex(syllable), HangulUtil.jongseongIndex(syllable));
+
+    assertThat(composed).isEqualTo(syllable);
+    assertThat(HangulUtil.compose(19, 0, 0)).isEqualTo((char) 0);
+  }
+
+  @Test
+  @DisplayName("한글이 아닌 입력은 인덱스 계산 전에 걸러낸다")
+  void nonHangulTest() {
+    assertThat(HangulUtil.isHangulWord("apple")).isFalse();
+    assertThat(HangulUtil.isHangulWord("사과a")).isFalse();
+    assertThat(HangulUtil.isHangulWord("ㄱㄴ")).isFalse();
+    assertThat(HangulUtil.isHangulWord("")).isFalse();
+    assertThat(HangulUtil.isHangulWord(null)).isFalse();
+    assertThat(HangulUtil.choseongIndex('a')).isEqualTo(-1);
+    assertThat(HangulUtil.tableName('a')).isNull();
+  }
+
+  @Test
+  @DisplayName("첫 글자의 초성으로 사전 테이블을 고른다")
+  void tableNameTest() {
+    assertThat(HangulUtil.tableName('가')).isEqualTo("dict_g");
+    assertThat(HangulUtil.tableName('아')).isEqualTo("dict_ng");
+    assertThat(HangulUtil.tableName('힣')).isEqualTo("dict_h");
+  }
+
+  @Test
+  @DisplayName("두음법칙 대응 음절을 돌려준다")
+  void dueumRuleTest() {
+    assertThat(DueumRule.alternative('력')).isEqualTo('역');
+    assertThat(DueumRule.alternative('녀')).isEqualTo('여');
+    assertThat(DueumRule.alternative('락')).isEqualTo('낙');
+    assertThat(DueumRule.alternative('가')).isEqualTo((char) 0);
+    assertThat(DueumRule.canFollow('력', '역')).isTrue();
+    assertThat(DueumRule.canFollow('역', '력')).isFalse();
+  }
+}
@@ -0,0 +1,89 @@
+package com.wordrelay.server.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.wordrelay.server.mapper.AdjectivesMapper;
+import com.wordrelay.server.mapper.AnimalsMapper;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NicknameGeneratorTest {
+
+  private final AtomicLong sequence = new AtomicLong();
+  private NicknameGenerator nicknameGenerator;
+
+  @BeforeEach
+  void setUp() {
+    nicknameGenerator = generator(42L);
+  }
+
+  @Test
+  @DisplayName("조합을 모두 쓰기 전까지 닉네임이 겹치지 않는다")
+  void uniqueWithinSpaceTest() {
+    nicknameGenerator.load(List.of("빠른", "느린", "용감한"), List.of("호랑이", "토끼", "거북이", "여우", "곰"));
+
+    Set<String> issued = new HashSet<>();
+    for (int i = 0; i < 15; i++) {
+      issued.add(nicknameGenerator.generateRandomNickname());
+    }
+
+    assertThat(issued).hasSize(15);
+    assertThat(issued).allMatch(name -> name.matches("(빠른|느린|용감한) (호랑이|토끼|거북이|여우|곰)"));
+  }
+
+  @Test
+  @DisplayName("조합을 모두 쓰면 숫자 접미사를 붙여 계속 겹치지 않게 나눠준다")
+  void suffixAfterExhaustionTest() {
+    nicknameGenerator = generator(7L);
+    nicknameGenerator.load(List.of("빠른", "느린"), List.of("호랑이"));
+
+    Set<String> issued = new HashSet<>();
+    for (int i = 0; i < 6; i++) {
+      issued.add(nicknameGenerator.generateRandomNickname());
+    }
+
+    assertThat(issued).hasSize(6).contains("빠른 호랑이", "느린 호랑이2", "빠른 호랑이3");
+  }
+
+  @Test
+  @DisplayName("목록이 비어 있으면 기본 닉네임을 돌려준다")
+  void emptyPoolTest() {
+    nicknameGenerator.load(List.of(), List.of("호랑이"));
+
+    assertThat(nicknameGenerator.generateRandomNickname()).isEqualTo("행운의 동물🦄");
+  }
+
+  @Test
+  @DisplayName("순번을 함께 쓰는 노드끼리, 다시 읽어 들인 뒤에도 닉네임이 겹치지 않는다")
+  void sharedSequenceTest() {
+    List<String> adjectives = List.of("빠른", "느린", "용감한");
+    List<String> animals = List.of("호랑이", "토끼", "거북이", "여우", "곰");
+    NicknameGenerator other = generator(42L);
+    nicknameGenerator.load(adjectives, animals);
+    other.load(adjectives, animals);
+
+    Set<String> issued = new HashSet<>();
+    for (int i = 0; i < 5; i++) {
+      issued.add(nicknameGenerator.generateRandomNickname());
+      issued.add(other.generateRandomNickname());
+    }
+    // 재시작
+    nicknameGenerator.load(adjectives, animals);
+    for (int i = 0; i < 5; i++) {
+      issued.add(nicknameGenerator.generateRandomNickname());
+    }
+
+    assertThat(issued).hasSize(15);
+  }
+
+  private NicknameGenerator generator(long seed) {
+    return new NicknameGenerator(mock(AdjectivesMapper.class), mock(AnimalsMapper.class),
+        sequence::getAndIncrement, seed);
+  }
+}
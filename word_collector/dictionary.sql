@@ -0,0 +1,42 @@
+-- 초성별 dict_* 테이블 19개를 dictionary 한 테이블로 합친다.
+-- 서버는 이 테이블만 조회하므로 쿼리 문자열이 하나로 고정되고, 서버 측 prepared statement 캐시가 재사용된다.
+-- MySQL에는 INCLUDE 절이 없어서 (word, winning_word) 복합 인덱스로 커버링 인덱스를 만든다.
+-- choseong 컬럼은 나중에 PARTITION BY LIST (choseong)로 나눌 때 파티션 키로 쓴다.
+
+CREATE TABLE IF NOT EXISTS dictionary (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    choseong TINYINT UNSIGNED NOT NULL,
+    word VARCHAR(100) NOT NULL,
+    definition TEXT NOT NULL,
+    winning_word TINYINT(1) NOT NULL DEFAULT 0,
+    UNIQUE KEY word_idx (word),
+    KEY word_winning_idx (word, winning_word),
+    KEY choseong_word_idx (choseong, word, winning_word)
+) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
+
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 0, word, definition FROM dict_g;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 1, word, definition FROM dict_gg;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 2, word, definition FROM dict_n;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 3, word, definition FROM dict_d;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 4, word, definition FROM dict_dd;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 5, word, definition FROM dict_r;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 6, word, definition FROM dict_m;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 7, word, definition FROM dict_b;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 8, word, definition FROM dict_bb;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 9, word, definition FROM dict_s;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 10, word, definition FROM dict_ss;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 11, word, definition FROM dict_ng;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 12, word, definition FROM dict_j;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 13, word, definition FROM dict_jj;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 14, word, definition FROM dict_ch;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 15, word, definition FROM dict_k;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 16, word, definition FROM dict_t;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 17, word, definition FROM dict_p;
+INSERT IGNORE INTO dictionary (choseong, word, definition) SELECT 18, word, definition FROM dict_h;
+
+-- 한방단어 표시는 winning_words 테이블 기준으로 다시 계산한다.
+UPDATE dictionary d
+JOIN winning_words w ON w.word = d.word
+SET d.winning_word = 1;
+
+ANALYZE TABLE dictionary;
@@ -79,6 +79,7 @@ class DictionaryProcessor:
 
     def setup_processor_config(self):
         """프로세서 설정 초기화"""
+        self.CHOSUNG_LIST = list("ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ")
         self.CHOSUNG_TABLE_MAP = {
             "ㄱ": "dict_g",
             "ㄲ": "dict_gg",
@@ -116,6 +117,20 @@ class DictionaryProcessor:
                 """
                 self.cursor.execute(query)
 
+            # 서버가 조회하는 통합 사전 테이블 (스키마는 dictionary.sql 참고)
+            self.cursor.execute("""
+            CREATE TABLE IF NOT EXISTS `dictionary` (
+                `id` INT AUTO_INCREMENT PRIMARY KEY,
+                `choseong` TINYINT UNSIGNED NOT NULL,
+                `word` VARCHAR(100) NOT NULL,
+                `definition` TEXT NOT NULL,
+                `winning_word` TINYINT(1) NOT NULL DEFAULT 0,
+                UNIQUE KEY `word_idx` (`word`),
+                KEY `word_winning_idx` (`word`, `winning_word`),
+                KEY `choseong_word_idx` (`choseong`, `word`, `winning_word`)
+            ) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci
+            """)
+
             self.conn.commit()
             logging.info("All dictionary tables created successfully")
         except Exception as e:
@@ -208,6 +223,11 @@ class DictionaryProcessor:
                     f"INSERT INTO {table_name} (word, definition) VALUES (%s, %s)",
                     (cleaned_word, self.clean_definition(definition)),
                 )
+                # winning_word.py 등 기존 스크립트가 dict_* 테이블을 읽으므로 두 곳에 모두 쓴다.
+                self.cursor.execute(
+                    "INSERT IGNORE INTO dictionary (choseong, word, definition) VALUES (%s, %s, %s)",
+                    (self.CHOSUNG_LIST.index(initial), cleaned_word, self.clean_definition(definition)),
+                )
                 self.conn.commit()
                 logging.info(f"Inserted: {cleaned_word}")
             else:
@@ -153,6 +153,10 @@ class WinningWordFinder:
                                 "INSERT IGNORE INTO winning_words (word, last_char) VALUES (%s, %s)",
                                 (word, char)
                             )
+                            self.cursor.execute(
+                                "UPDATE dictionary SET winning_word = 1 WHERE word = %s",
+                                (word,)
+                            )
                             logging.info(f"Found winning word: {word} (ends with {char})")
                         except Exception as e:
                             logging.error(f"Error inserting word {word}: {e}")